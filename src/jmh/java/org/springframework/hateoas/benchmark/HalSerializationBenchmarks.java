@@ -0,0 +1,126 @@
+/*
+ * Copyright 2014 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.benchmark;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.PagedResources;
+import org.springframework.hateoas.PagedResources.PageMetadata;
+import org.springframework.hateoas.Resource;
+import org.springframework.hateoas.Resources;
+import org.springframework.hateoas.core.AnnotationRelProvider;
+import org.springframework.hateoas.core.CachingRelProvider;
+import org.springframework.hateoas.core.Relation;
+import org.springframework.hateoas.hal.Jackson2HalModule;
+import org.springframework.hateoas.hal.Jackson2HalModule.HalHandlerInstantiator;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Benchmarks for rendering {@link Resources} and {@link PagedResources} as HAL using Jackson 2. Output is written to
+ * an {@link OutputStream} discarding all bytes so that only the rendering itself is measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class HalSerializationBenchmarks {
+
+	static final OutputStream DISCARD = new OutputStream() {
+
+		@Override
+		public void write(int b) throws IOException {}
+
+		@Override
+		public void write(byte[] b, int off, int len) throws IOException {}
+	};
+
+	@Param({ "10", "1000", "100000" }) int size;
+
+	ObjectMapper mapper;
+	List<Resource<Person>> content;
+	Resources<Resource<Person>> resources;
+	PagedResources<Resource<Person>> pagedResources;
+
+	@Setup
+	public void setUp() {
+
+		this.mapper = new ObjectMapper();
+		this.mapper.registerModule(new Jackson2HalModule());
+		this.mapper.setHandlerInstantiator(new HalHandlerInstantiator(new CachingRelProvider(
+				new AnnotationRelProvider()), null));
+
+		this.content = new ArrayList<Resource<Person>>(size);
+
+		for (int i = 0; i < size; i++) {
+			content.add(new Resource<Person>(new Person("Dave", "Matthews"), new Link("http://localhost:8080/people/" + i),
+					new Link("http://localhost:8080/people/" + i + "/addresses", "addresses")));
+		}
+
+		Link self = new Link("http://localhost:8080/people");
+
+		this.resources = new Resources<Resource<Person>>(content, self);
+		this.pagedResources = new PagedResources<Resource<Person>>(content, new PageMetadata(size, 0, size * 10L), self,
+				new Link("http://localhost:8080/people?page=1", Link.REL_NEXT));
+	}
+
+	@Benchmark
+	public void renderResources() throws IOException {
+		mapper.writeValue(DISCARD, resources);
+	}
+
+	@Benchmark
+	public void renderPagedResources() throws IOException {
+		mapper.writeValue(DISCARD, pagedResources);
+	}
+
+	@Benchmark
+	public void renderStreamingResources() throws IOException {
+		mapper.writeValue(DISCARD, new Resources<Resource<Person>>(content.iterator()));
+	}
+
+	@Relation(value = "person", collectionRelation = "people")
+	public static class Person {
+
+		private final String firstname;
+		private final String lastname;
+
+		public Person(String firstname, String lastname) {
+			this.firstname = firstname;
+			this.lastname = lastname;
+		}
+
+		public String getFirstname() {
+			return firstname;
+		}
+
+		public String getLastname() {
+			return lastname;
+		}
+	}
+}
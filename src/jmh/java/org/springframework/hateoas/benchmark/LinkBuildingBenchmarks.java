@@ -0,0 +1,97 @@
+/*
+ * Copyright 2014 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.benchmark;
+
+import static org.springframework.hateoas.mvc.ControllerLinkBuilder.*;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.hateoas.Link;
+import org.springframework.http.HttpEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+/**
+ * Benchmarks for building links to Spring MVC controllers through the
+ * {@link org.springframework.hateoas.mvc.ControllerLinkBuilder}. All links are built within the same request, just
+ * like for a single response containing many links.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class LinkBuildingBenchmarks {
+
+	@Setup
+	public void setUp() {
+
+		MockHttpServletRequest request = new MockHttpServletRequest();
+		request.setServerName("localhost");
+		request.setServerPort(8080);
+
+		RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+	}
+
+	@TearDown
+	public void tearDown() {
+		RequestContextHolder.resetRequestAttributes();
+	}
+
+	@Benchmark
+	public Link linkToMethodOn() {
+		return linkTo(methodOn(PersonController.class).addresses(42L, "home")).withSelfRel();
+	}
+
+	@Benchmark
+	public Link linkToMethodOnWithRequestParameter() {
+		return linkTo(methodOn(PersonController.class).people(2, 20)).withRel("people");
+	}
+
+	@Benchmark
+	public Link linkToClassWithParameters() {
+		return linkTo(AddressController.class, 42L).slash("home").withSelfRel();
+	}
+
+	@RequestMapping("/people")
+	public static class PersonController {
+
+		@RequestMapping
+		public HttpEntity<Void> people(@RequestParam("page") int page, @RequestParam("size") int size) {
+			return null;
+		}
+
+		@RequestMapping("/{id}/addresses/{type}")
+		public HttpEntity<Void> addresses(@PathVariable("id") Long id, @PathVariable("type") String type) {
+			return null;
+		}
+	}
+
+	@RequestMapping("/people/{id}/addresses")
+	public static class AddressController {
+
+	}
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2014 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.benchmark;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.Links;
+import org.springframework.hateoas.UriTemplate;
+
+/**
+ * Benchmarks for {@link UriTemplate} expansion and parsing {@link Link}s from their RFC 5988 header representation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class UriTemplateBenchmarks {
+
+	static final String TEMPLATE = "http://localhost:8080/people/{id}/addresses{?page,size,sort}";
+	static final String LINK_HEADER = "</people/42>;rel=\"self\"";
+	static final String LINKS_HEADER = "</people/42>;rel=\"self\", </people?page=0>;rel=\"first\", "
+			+ "</people?page=2>;rel=\"next\", </people?page=0>;rel=\"prev\", </people?page=9>;rel=\"last\"";
+
+	final Map<String, Object> parameters = new HashMap<String, Object>();
+
+	public UriTemplateBenchmarks() {
+
+		parameters.put("id", 42L);
+		parameters.put("page", 1);
+		parameters.put("size", 20);
+		parameters.put("sort", "lastname");
+	}
+
+	@Benchmark
+	public String expandCachedTemplateWithParameterArray() {
+		return UriTemplate.of(TEMPLATE).expandToString(42L, 1, 20, "lastname");
+	}
+
+	@Benchmark
+	public String expandCachedTemplateWithParameterMap() {
+		return UriTemplate.of(TEMPLATE).expandToString(parameters);
+	}
+
+	@Benchmark
+	public Object expandNewTemplate() {
+		return new UriTemplate(TEMPLATE).expand(parameters);
+	}
+
+	@Benchmark
+	public Link parseLink() {
+		return Link.valueOf(LINK_HEADER);
+	}
+
+	@Benchmark
+	public Links parseLinks() {
+		return Links.valueOf(LINKS_HEADER);
+	}
+}
@@ -0,0 +1,669 @@
+/*
+ * Copyright 2014 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas;
+
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import org.springframework.hateoas.TemplateVariable.VariableType;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+/**
+ * A URI template parsed into a sequence of literal and expression segments once, so that it can be expanded repeatedly
+ * by appending to a {@link StringBuilder} without re-parsing the template or building intermediate URI objects.
+ * Supports all operators and value modifiers of RFC 6570 level 4 templates. Values are encoded as defined in RFC 6570.
+ * 
+ * @since 0.10
+ * @see http://tools.ietf.org/html/rfc6570
+ */
+final class CompiledUriTemplate {
+
+	private static final char[] HEX = "0123456789ABCDEF".toCharArray();
+	private static final String RESERVED = ":/?#[]@!$&'()*+,;=";
+	private static final String OPERATORS = "+#./;?&";
+
+	private final String template;
+	private final List<Segment> segments;
+	private final List<TemplateVariable> variables;
+	private final int baseUriEndIndex;
+
+	private CompiledUriTemplate(String template, List<Segment> segments, List<TemplateVariable> variables,
+			int baseUriEndIndex) {
+
+		this.template = template;
+		this.segments = segments;
+		this.variables = variables;
+		this.baseUriEndIndex = baseUriEndIndex;
+	}
+
+	/**
+	 * Parses the given template into a {@link CompiledUriTemplate}.
+	 * 
+	 * @param template must not be {@literal null}.
+	 * @return
+	 */
+	public static CompiledUriTemplate compile(String template) {
+
+		Assert.notNull(template, "Template must not be null!");
+
+		List<Segment> segments = new ArrayList<Segment>();
+		List<TemplateVariable> variables = new ArrayList<TemplateVariable>();
+		int baseUriEndIndex = template.length();
+		int literalStart = 0;
+
+		for (int start = findExpression(template, 0); start != -1; start = findExpression(template, start + 1)) {
+
+			int end = getExpressionEnd(template, start);
+			String operator = getOperator(template, start);
+			VariableType type = VariableType.from(operator);
+			int specsStart = start + 1 + operator.length();
+
+			List<TemplateVariable> expressionVariables = new ArrayList<TemplateVariable>();
+
+			for (String spec : StringUtils.delimitedListToStringArray(template.substring(specsStart, end), ",")) {
+
+				TemplateVariable variable = toVariable(spec, type);
+
+				if (!variable.isRequired() && start < baseUriEndIndex) {
+					baseUriEndIndex = start;
+				}
+
+				expressionVariables.add(variable);
+			}
+
+			if (literalStart < start) {
+				segments.add(new Literal(template.substring(literalStart, start)));
+			}
+
+			segments.add(new Expression(type, expressionVariables, variables.size()));
+			variables.addAll(expressionVariables);
+
+			literalStart = end + 1;
+		}
+
+		if (literalStart < template.length()) {
+			segments.add(new Literal(template.substring(literalStart)));
+		}
+
+		return new CompiledUriTemplate(template, Collections.unmodifiableList(segments),
+				Collections.unmodifiableList(variables), baseUriEndIndex);
+	}
+
+	/**
+	 * Returns whether the given candidate contains at least one template expression.
+	 * 
+	 * @param candidate must not be {@literal null}.
+	 * @return
+	 */
+	public static boolean containsExpression(String candidate) {
+		return findExpression(candidate, 0) != -1;
+	}
+
+	/**
+	 * Returns the original template {@link String}.
+	 * 
+	 * @return
+	 */
+	public String getTemplate() {
+		return template;
+	}
+
+	/**
+	 * Returns all {@link TemplateVariable}s in the order of their declaration in the template.
+	 * 
+	 * @return
+	 */
+	public List<TemplateVariable> getVariables() {
+		return variables;
+	}
+
+	/**
+	 * Returns the index of the first expression containing an optional variable or the length of the template in case
+	 * there is none.
+	 * 
+	 * @return
+	 */
+	public int getBaseUriEndIndex() {
+		return baseUriEndIndex;
+	}
+
+	/**
+	 * Expands the template using the given values applied in the order of the variables discovered.
+	 * 
+	 * @param values must not be {@literal null}.
+	 * @return
+	 */
+	public String expand(Object[] values) {
+
+		Assert.notNull(values, "Values must not be null!");
+
+		StringBuilder builder = new StringBuilder(template.length() + 16 * variables.size());
+		expand(builder, values);
+		return builder.toString();
+	}
+
+	/**
+	 * Expands the template using the values registered for the variable names in the given {@link Map}.
+	 * 
+	 * @param parameters must not be {@literal null}.
+	 * @return
+	 */
+	public String expand(Map<String, ? extends Object> parameters) {
+
+		Assert.notNull(parameters, "Parameters must not be null!");
+
+		Object[] values = new Object[variables.size()];
+
+		for (int i = 0; i < values.length; i++) {
+			values[i] = parameters.get(variables.get(i).getName());
+		}
+
+		return expand(values);
+	}
+
+	/**
+	 * Appends the expanded template to the given {@link StringBuilder}. The values are applied in the order of the
+	 * variables discovered, missing values are considered undefined.
+	 * 
+	 * @param builder must not be {@literal null}.
+	 * @param values must not be {@literal null}.
+	 */
+	public void expand(StringBuilder builder, Object[] values) {
+
+		for (Segment segment : segments) {
+			segment.expand(builder, values);
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return template;
+	}
+
+	/**
+	 * Creates a {@link TemplateVariable} from the given, already validated variable specification.
+	 * 
+	 * @param spec must not be {@literal null}.
+	 * @param type must not be {@literal null}.
+	 * @return
+	 */
+	private static TemplateVariable toVariable(String spec, VariableType type) {
+
+		if (spec.endsWith("*")) {
+			return new TemplateVariable(spec.substring(0, spec.length() - 1), type, "", 0, true);
+		}
+
+		int colon = spec.indexOf(':');
+
+		if (colon == -1) {
+			return new TemplateVariable(spec, type);
+		}
+
+		int prefixLength = Integer.parseInt(spec.substring(colon + 1));
+		return new TemplateVariable(spec.substring(0, colon), type, "", prefixLength, false);
+	}
+
+	/**
+	 * Returns the index of the next template expression in the given template, starting the search at the given index.
+	 * Scans the template in a single pass and only considers expressions valid according to RFC 6570, i.e.
+	 * <code>{[operator]varspec[,varspec]*}</code>.
+	 * 
+	 * @param template must not be {@literal null}.
+	 * @param fromIndex the index to start the search at.
+	 * @return the index of the opening curly brace of the next expression or {@literal -1} if there is none.
+	 */
+	private static int findExpression(String template, int fromIndex) {
+
+		for (int start = template.indexOf('{', fromIndex); start != -1; start = template.indexOf('{', start + 1)) {
+			if (getExpressionEnd(template, start) != -1) {
+				return start;
+			}
+		}
+
+		return -1;
+	}
+
+	/**
+	 * Returns the index of the closing curly brace of the expression starting at the given index or {@literal -1} in case
+	 * the characters following the opening brace do not form a valid expression.
+	 * 
+	 * @param template must not be {@literal null}.
+	 * @param start the index of the opening curly brace.
+	 * @return
+	 */
+	private static int getExpressionEnd(String template, int start) {
+
+		int length = template.length();
+		int index = start + 1 + getOperator(template, start).length();
+
+		while (true) {
+
+			index = getVariableSpecEnd(template, index);
+
+			if (index == -1 || index >= length) {
+				return -1;
+			}
+
+			char c = template.charAt(index);
+
+			if (c == '}') {
+				return index;
+			}
+
+			if (c != ',') {
+				return -1;
+			}
+
+			index++;
+		}
+	}
+
+	/**
+	 * Returns the index of the first character after the variable specification starting at the given index or
+	 * {@literal -1} if there is no valid one. A variable specification consists of a name of (percent-encoded) word
+	 * characters, optionally separated by dots, followed by either a prefix (<code>:n</code>) or an explode
+	 * (<code>*</code>) modifier.
+	 * 
+	 * @param template must not be {@literal null}.
+	 * @param start the index to start at.
+	 * @return
+	 */
+	private static int getVariableSpecEnd(String template, int start) {
+
+		int length = template.length();
+		int index = start;
+		boolean dotAllowed = false;
+
+		while (index < length) {
+
+			char c = template.charAt(index);
+
+			if (isNameCharacter(c)) {
+				index++;
+				dotAllowed = true;
+			} else if (isPercentEncoded(template, index)) {
+				index += 3;
+				dotAllowed = true;
+			} else if (c == '.' && dotAllowed) {
+				index++;
+				dotAllowed = false;
+			} else {
+				break;
+			}
+		}
+
+		if (index == start || !dotAllowed || index >= length) {
+			return -1;
+		}
+
+		char c = template.charAt(index);
+
+		if (c == '*') {
+			return index + 1;
+		}
+
+		if (c != ':') {
+			return index;
+		}
+
+		int digitsStart = ++index;
+
+		while (index < length && index - digitsStart < 4 && isDigit(template.charAt(index))) {
+			index++;
+		}
+
+		return index == digitsStart || template.charAt(digitsStart) == '0' ? -1 : index;
+	}
+
+	/**
+	 * Returns the operator of the expression starting at the given index or an empty {@link String} in case the
+	 * expression does not have an operator.
+	 * 
+	 * @param template must not be {@literal null}.
+	 * @param start the index of the opening curly brace of the expression.
+	 * @return
+	 */
+	private static String getOperator(String template, int start) {
+
+		if (start + 1 >= template.length()) {
+			return "";
+		}
+
+		char c = template.charAt(start + 1);
+		return OPERATORS.indexOf(c) == -1 ? "" : String.valueOf(c);
+	}
+
+	private static boolean isNameCharacter(char c) {
+		return c == '_' || c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z' || isDigit(c);
+	}
+
+	private static boolean isDigit(char c) {
+		return c >= '0' && c <= '9';
+	}
+
+	/**
+	 * Appends the given value to the given {@link StringBuilder} percent-encoding all characters but the unreserved ones
+	 * and - if requested - the reserved ones and already percent-encoded triplets.
+	 * 
+	 * @param builder must not be {@literal null}.
+	 * @param value must not be {@literal null}.
+	 * @param allowReserved whether to keep reserved characters and percent-encoded triplets.
+	 */
+	static void encode(StringBuilder builder, String value, boolean allowReserved) {
+
+		int length = value.length();
+
+		for (int i = 0; i < length; i++) {
+
+			char c = value.charAt(i);
+
+			if (isUnreserved(c) || allowReserved && (RESERVED.indexOf(c) != -1 || isPercentEncoded(value, i))) {
+				builder.append(c);
+				continue;
+			}
+
+			int codePoint = Character.codePointAt(value, i);
+
+			if (Character.isSupplementaryCodePoint(codePoint)) {
+				i++;
+			}
+
+			appendUtf8(builder, codePoint);
+		}
+	}
+
+	private static boolean isUnreserved(char c) {
+		return c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z' || c >= '0' && c <= '9' || c == '-' || c == '.' || c == '_'
+				|| c == '~';
+	}
+
+	private static boolean isPercentEncoded(String value, int index) {
+
+		return value.charAt(index) == '%' && index + 2 < value.length()
+				&& Character.digit(value.charAt(index + 1), 16) != -1 && Character.digit(value.charAt(index + 2), 16) != -1;
+	}
+
+	private static void appendUtf8(StringBuilder builder, int codePoint) {
+
+		if (codePoint < 0x80) {
+			appendEncoded(builder, codePoint);
+		} else if (codePoint < 0x800) {
+			appendEncoded(builder, 0xC0 | codePoint >> 6);
+			appendEncoded(builder, 0x80 | codePoint & 0x3F);
+		} else if (codePoint < 0x10000) {
+			appendEncoded(builder, 0xE0 | codePoint >> 12);
+			appendEncoded(builder, 0x80 | codePoint >> 6 & 0x3F);
+			appendEncoded(builder, 0x80 | codePoint & 0x3F);
+		} else {
+			appendEncoded(builder, 0xF0 | codePoint >> 18);
+			appendEncoded(builder, 0x80 | codePoint >> 12 & 0x3F);
+			appendEncoded(builder, 0x80 | codePoint >> 6 & 0x3F);
+			appendEncoded(builder, 0x80 | codePoint & 0x3F);
+		}
+	}
+
+	private static void appendEncoded(StringBuilder builder, int octet) {
+		builder.append('%').append(HEX[octet >> 4 & 0xF]).append(HEX[octet & 0xF]);
+	}
+
+	/**
+	 * A part of the template to be expanded.
+	 */
+	private interface Segment {
+
+		/**
+		 * Appends the expanded segment to the given {@link StringBuilder}.
+		 * 
+		 * @param builder will never be {@literal null}.
+		 * @param values the values of all variables of the template in order of their declaration, will never be
+		 *          {@literal null}.
+		 */
+		void expand(StringBuilder builder, Object[] values);
+	}
+
+	/**
+	 * A literal part of the template, encoded once on creation.
+	 */
+	private static class Literal implements Segment {
+
+		private final String value;
+
+		public Literal(String value) {
+
+			StringBuilder builder = new StringBuilder(value.length());
+			encode(builder, value, true);
+
+			this.value = builder.toString();
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.hateoas.CompiledUriTemplate.Segment#expand(java.lang.StringBuilder, java.lang.Object[])
+		 */
+		@Override
+		public void expand(StringBuilder builder, Object[] values) {
+			builder.append(value);
+		}
+	}
+
+	/**
+	 * A template expression consisting of an operator and one or more variables.
+	 */
+	private static class Expression implements Segment {
+
+		private final VariableType type;
+		private final List<TemplateVariable> variables;
+		private final int offset;
+
+		/**
+		 * Creates a new {@link Expression} for the given {@link VariableType} and {@link TemplateVariable}s.
+		 * 
+		 * @param type must not be {@literal null}.
+		 * @param variables must not be {@literal null}.
+		 * @param offset the index of the first variable of the expression within all variables of the template.
+		 */
+		public Expression(VariableType type, List<TemplateVariable> variables, int offset) {
+
+			this.type = type;
+			this.variables = variables;
+			this.offset = offset;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.hateoas.CompiledUriTemplate.Segment#expand(java.lang.StringBuilder, java.lang.Object[])
+		 */
+		@Override
+		public void expand(StringBuilder builder, Object[] values) {
+
+			boolean first = true;
+
+			for (int i = 0; i < variables.size(); i++) {
+
+				TemplateVariable variable = variables.get(i);
+				int index = offset + i;
+				Object value = index < values.length ? values[index] : null;
+
+				if (value == null) {
+
+					if (variable.isRequired()) {
+						throw new IllegalArgumentException(String.format(
+								"Template variable %s is required but no value was given!", variable.getName()));
+					}
+
+					continue;
+				}
+
+				Iterator<?> elements = getElements(value);
+
+				if (elements != null && !elements.hasNext()) {
+					continue;
+				}
+
+				builder.append(first ? type.getPrefix() : type.getSeparator());
+				first = false;
+
+				if (elements == null) {
+					appendScalar(builder, variable, value.toString());
+				} else if (variable.isExploded()) {
+					appendExploded(builder, variable.getName(), value instanceof Map, elements);
+				} else {
+					appendComposite(builder, variable.getName(), value instanceof Map, elements);
+				}
+			}
+		}
+
+		private void appendScalar(StringBuilder builder, TemplateVariable variable, String value) {
+
+			if (type.isNamed()) {
+
+				builder.append(variable.getName());
+
+				if (value.length() == 0) {
+					builder.append(type.getIfEmpty());
+					return;
+				}
+
+				builder.append('=');
+			}
+
+			int prefixLength = variable.getPrefixLength();
+
+			if (prefixLength > 0 && value.codePointCount(0, value.length()) > prefixLength) {
+				value = value.substring(0, value.offsetByCodePoints(0, prefixLength));
+			}
+
+			encode(builder, value, type.allowsReserved());
+		}
+
+		private void appendExploded(StringBuilder builder, String name, boolean isMap, Iterator<?> elements) {
+
+			boolean first = true;
+
+			while (elements.hasNext()) {
+
+				Object element = elements.next();
+
+				if (!first) {
+					builder.append(type.getSeparator());
+				}
+
+				first = false;
+
+				if (isMap) {
+					Entry<?, ?> entry = (Entry<?, ?>) element;
+					encode(builder, String.valueOf(entry.getKey()), type.allowsReserved());
+					appendValue(builder, String.valueOf(entry.getValue()));
+				} else if (type.isNamed()) {
+					builder.append(name);
+					appendValue(builder, String.valueOf(element));
+				} else {
+					encode(builder, String.valueOf(element), type.allowsReserved());
+				}
+			}
+		}
+
+		/**
+		 * Appends the given value of a name-value pair including the separating equals sign or the operator specific
+		 * replacement in case the value is empty.
+		 * 
+		 * @param builder must not be {@literal null}.
+		 * @param value must not be {@literal null}.
+		 */
+		private void appendValue(StringBuilder builder, String value) {
+
+			if (type.isNamed() && value.length() == 0) {
+				builder.append(type.getIfEmpty());
+				return;
+			}
+
+			builder.append('=');
+			encode(builder, value, type.allowsReserved());
+		}
+
+		private void appendComposite(StringBuilder builder, String name, boolean isMap, Iterator<?> elements) {
+
+			if (type.isNamed()) {
+				builder.append(name).append('=');
+			}
+
+			boolean first = true;
+
+			while (elements.hasNext()) {
+
+				Object element = elements.next();
+
+				if (!first) {
+					builder.append(',');
+				}
+
+				first = false;
+
+				if (isMap) {
+					Entry<?, ?> entry = (Entry<?, ?>) element;
+					encode(builder, String.valueOf(entry.getKey()), type.allowsReserved());
+					builder.append(',');
+					encode(builder, String.valueOf(entry.getValue()), type.allowsReserved());
+				} else {
+					encode(builder, String.valueOf(element), type.allowsReserved());
+				}
+			}
+		}
+
+		/**
+		 * Returns an {@link Iterator} over the elements of the given value in case it's a {@link Collection}, array or
+		 * {@link Map} or {@literal null} in case it's a scalar value.
+		 * 
+		 * @param value must not be {@literal null}.
+		 * @return
+		 */
+		private static Iterator<?> getElements(Object value) {
+
+			if (value instanceof Collection) {
+				return ((Collection<?>) value).iterator();
+			}
+
+			if (value instanceof Map) {
+				return ((Map<?, ?>) value).entrySet().iterator();
+			}
+
+			if (value.getClass().isArray()) {
+
+				int length = Array.getLength(value);
+				List<Object> result = new ArrayList<Object>(length);
+
+				for (int i = 0; i < length; i++) {
+					result.add(Array.get(value, i));
+				}
+
+				return result.iterator();
+			}
+
+			return null;
+		}
+	}
+}
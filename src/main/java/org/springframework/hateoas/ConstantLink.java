@@ -0,0 +1,105 @@
+/*
+ * Copyright 2014 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas;
+
+import java.util.Map;
+
+import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentReferenceHashMap;
+
+/**
+ * Canonical {@link Link} for links that are constant for the lifetime of the application, like profile, documentation
+ * or root links. Instances are interned so that they can be held in constants or looked up repeatedly, their
+ * RFC-5988 header representation and whether they are templated is calculated once on creation. A {@link ConstantLink}
+ * doesn't add any state to {@link Link} and is rendered the same way. Renderers can rely on it never changing and cache
+ * its serialized form as long as that's equivalent to the one of a plain {@link Link}.
+ * 
+ * @since 0.10
+ */
+public final class ConstantLink extends Link {
+
+	private static final long serialVersionUID = -4325829418732153437L;
+	private static final int CACHE_LIMIT = 256;
+	private static final Map<Link, ConstantLink> CACHE = new ConcurrentReferenceHashMap<Link, ConstantLink>();
+
+	private final String headerValue;
+	private final boolean templated;
+
+	private ConstantLink(String href, String rel) {
+
+		super(href, rel);
+
+		this.headerValue = super.toString();
+		this.templated = super.isTemplated();
+	}
+
+	/**
+	 * Returns the {@link ConstantLink} for the given href and relation type.
+	 * 
+	 * @param href must not be {@literal null} or empty.
+	 * @param rel must not be {@literal null} or empty.
+	 * @return
+	 */
+	public static ConstantLink of(String href, String rel) {
+		return of(new Link(href, rel));
+	}
+
+	/**
+	 * Returns the {@link ConstantLink} equivalent to the given {@link Link}.
+	 * 
+	 * @param link must not be {@literal null}.
+	 * @return
+	 */
+	public static ConstantLink of(Link link) {
+
+		Assert.notNull(link, "Link must not be null!");
+
+		if (link instanceof ConstantLink) {
+			return (ConstantLink) link;
+		}
+
+		ConstantLink result = CACHE.get(link);
+
+		if (result == null) {
+
+			result = new ConstantLink(link.getHref(), link.getRel());
+
+			if (CACHE.size() < CACHE_LIMIT) {
+				CACHE.put(result, result);
+			}
+		}
+
+		return result;
+	}
+
+	/* 
+	 * (non-Javadoc)
+	 * @see org.springframework.hateoas.Link#isTemplated()
+	 */
+	@Override
+	public boolean isTemplated() {
+		return templated;
+	}
+
+	/* 
+	 * (non-Javadoc)
+	 * @see org.springframework.hateoas.Link#toString()
+	 */
+	@Override
+	public String toString() {
+		return headerValue;
+	}
+}
@@ -16,12 +16,8 @@
 package org.springframework.hateoas;
 
 import java.io.Serializable;
-import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import javax.xml.bind.annotation.XmlAttribute;
 import javax.xml.bind.annotation.XmlTransient;
@@ -73,7 +69,12 @@ public class Link implements Serializable {
 	 * @param rel must not be {@literal null} or empty.
 	 */
 	public Link(String href, String rel) {
-		this(new UriTemplate(href), rel);
+
+		Assert.hasText(href, "Href must not be null or empty!");
+		Assert.hasText(rel, "Rel must not be null or empty!");
+
+		this.href = href;
+		this.rel = rel;
 	}
 
 	/**
@@ -175,7 +176,7 @@ public class Link implements Serializable {
 	 * @return
 	 */
 	public Link expand(Object... arguments) {
-		return new Link(getUriTemplate().expand(arguments).toString(), getRel());
+		return new Link(getUriTemplate().expandToString(arguments), getRel());
 	}
 
 	/**
@@ -185,13 +186,13 @@ public class Link implements Serializable {
 	 * @return
 	 */
 	public Link expand(Map<String, ? extends Object> arguments) {
-		return new Link(getUriTemplate().expand(arguments).toString(), getRel());
+		return new Link(getUriTemplate().expandToString(arguments), getRel());
 	}
 
 	private UriTemplate getUriTemplate() {
 
 		if (template == null) {
-			this.template = new UriTemplate(href);
+			this.template = UriTemplate.of(href);
 		}
 
 		return template;
@@ -236,12 +237,13 @@ public class Link implements Serializable {
 	 */
 	@Override
 	public String toString() {
-		return String.format("<%s>;rel=\"%s\"", href, rel);
+		return "<" + href + ">;rel=\"" + rel + "\"";
 	}
 
 	/**
 	 * Factory method to easily create {@link Link} instances from RFC-5988 compatible {@link String} representations of a
-	 * link. Will return {@literal null} if an empty or {@literal null} {@link String} is given.
+	 * link. Will return {@literal null} if an empty or {@literal null} {@link String} is given. If the {@code rel}
+	 * attribute lists multiple relation types, the {@link Link} for the first one is returned.
 	 * 
 	 * @param element an RFC-5899 compatible representation of a link.
 	 * @throws IllegalArgumentException if a non-empty {@link String} was given that does not adhere to RFC-5899.
@@ -254,44 +256,6 @@ public class Link implements Serializable {
 			return null;
 		}
 
-		Pattern uriAndAttributes = Pattern.compile("<(.*)>;(.*)");
-		Matcher matcher = uriAndAttributes.matcher(element);
-
-		if (matcher.find()) {
-
-			Map<String, String> attributes = getAttributeMap(matcher.group(2));
-
-			if (!attributes.containsKey("rel")) {
-				throw new IllegalArgumentException("Link does not provide a rel attribute!");
-			}
-
-			return new Link(matcher.group(1), attributes.get("rel"));
-
-		} else {
-			throw new IllegalArgumentException(String.format("Given link header %s is not RFC5988 compliant!", element));
-		}
-	}
-
-	/**
-	 * Parses the links attributes from the given source {@link String}.
-	 * 
-	 * @param source
-	 * @return
-	 */
-	private static Map<String, String> getAttributeMap(String source) {
-
-		if (!StringUtils.hasText(source)) {
-			return Collections.emptyMap();
-		}
-
-		Map<String, String> attributes = new HashMap<String, String>();
-		Pattern keyAndValue = Pattern.compile("(\\w+)=\\\"(\\p{Alnum}*)\"");
-		Matcher matcher = keyAndValue.matcher(source);
-
-		while (matcher.find()) {
-			attributes.put(matcher.group(1), matcher.group(2));
-		}
-
-		return attributes;
+		return LinkHeaderParser.parseLink(element);
 	}
 }
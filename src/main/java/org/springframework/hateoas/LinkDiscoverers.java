@@ -15,9 +15,12 @@
  */
 package org.springframework.hateoas;
 
+import java.util.Map;
+
 import org.springframework.http.MediaType;
 import org.springframework.plugin.core.PluginRegistry;
 import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentReferenceHashMap;
 
 /**
  * Value object to wrap a {@link PluginRegistry} for {@link LinkDiscoverer} so that it's easier to inject them into
@@ -27,7 +30,16 @@ import org.springframework.util.Assert;
  */
 public class LinkDiscoverers {
 
+	/**
+	 * Upper bound for the number of media types cached per lookup method, as media type {@link String}s might originate
+	 * from arbitrary header values. Media types beyond that limit are still resolved but not cached.
+	 */
+	private static final int CACHE_LIMIT = 256;
+	private static final Object NO_DISCOVERER = new Object();
+
 	private final PluginRegistry<LinkDiscoverer, MediaType> discoverers;
+	private final Map<MediaType, Object> byMediaType = new ConcurrentReferenceHashMap<MediaType, Object>();
+	private final Map<String, Object> byString = new ConcurrentReferenceHashMap<String, Object>();
 
 	/**
 	 * Creates a new {@link LinkDiscoverers} instance with the given {@link PluginRegistry}.
@@ -41,22 +53,49 @@ public class LinkDiscoverers {
 	}
 
 	/**
-	 * Returns the {@link LinkDiscoverer} suitable for the given {@link MediaType}.
+	 * Returns the {@link LinkDiscoverer} suitable for the given {@link MediaType}. The result is cached per
+	 * {@link MediaType}.
 	 * 
 	 * @param mediaType
 	 * @return
 	 */
 	public LinkDiscoverer getLinkDiscovererFor(MediaType mediaType) {
-		return discoverers.getPluginFor(mediaType);
+
+		Object cached = byMediaType.get(mediaType);
+
+		if (cached == null) {
+			cached = cache(byMediaType, mediaType, discoverers.getPluginFor(mediaType));
+		}
+
+		return cached == NO_DISCOVERER ? null : (LinkDiscoverer) cached;
 	}
 
 	/**
-	 * Returns the {@link LinkDiscoverer} suitable for the given media type.
+	 * Returns the {@link LinkDiscoverer} suitable for the given media type. The result is cached per media type
+	 * {@link String} so that it doesn't have to be parsed again.
 	 * 
 	 * @param mediaType
 	 * @return
 	 */
 	public LinkDiscoverer getLinkDiscovererFor(String mediaType) {
-		return getLinkDiscovererFor(MediaType.valueOf(mediaType));
+
+		Object cached = byString.get(mediaType);
+
+		if (cached == null) {
+			cached = cache(byString, mediaType, getLinkDiscovererFor(MediaType.valueOf(mediaType)));
+		}
+
+		return cached == NO_DISCOVERER ? null : (LinkDiscoverer) cached;
+	}
+
+	private static <K> Object cache(Map<K, Object> cache, K key, LinkDiscoverer discoverer) {
+
+		Object value = discoverer == null ? NO_DISCOVERER : discoverer;
+
+		if (cache.size() < CACHE_LIMIT) {
+			cache.put(key, value);
+		}
+
+		return value;
 	}
 }
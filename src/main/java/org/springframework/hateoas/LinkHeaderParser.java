@@ -0,0 +1,308 @@
+/*
+ * Copyright 2014 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Single pass parser for RFC-5988 {@code Link} header values. Unlike splitting at commas it supports commas and
+ * semicolons inside URIs and quoted attribute values. Attributes other than {@code rel} (like {@code title},
+ * {@code type} or {@code hreflang}) are validated and skipped without being copied. A {@code rel} attribute listing
+ * multiple relation types results in one {@link Link} per relation type.
+ * 
+ * @since 0.10
+ */
+final class LinkHeaderParser {
+
+	private static final String REL = "rel";
+
+	private final String source;
+	private final int length;
+	private int index;
+
+	private LinkHeaderParser(String source) {
+
+		this.source = source;
+		this.length = source.length();
+		this.index = 0;
+	}
+
+	/**
+	 * Parses the given source consisting of a single link value. In case the link carries multiple relation types, the
+	 * {@link Link} for the first one is returned.
+	 * 
+	 * @param source must not be {@literal null}.
+	 * @return
+	 * @throws IllegalArgumentException in case the source is not a valid RFC-5988 link value or does not contain a
+	 *           {@code rel} attribute.
+	 */
+	static Link parseLink(String source) {
+
+		LinkHeaderParser parser = new LinkHeaderParser(source);
+		List<Link> links = new ArrayList<Link>(1);
+
+		parser.skipWhitespace();
+		parser.readLinkValue(links);
+		parser.skipWhitespace();
+
+		if (parser.index != parser.length) {
+			throw parser.notCompliant();
+		}
+
+		return links.get(0);
+	}
+
+	/**
+	 * Parses the given source consisting of a comma separated list of link values. Empty elements are skipped.
+	 * 
+	 * @param source must not be {@literal null}.
+	 * @return
+	 * @throws IllegalArgumentException in case any of the elements is not a valid RFC-5988 link value or does not contain
+	 *           a {@code rel} attribute.
+	 */
+	static List<Link> parseLinks(String source) {
+
+		LinkHeaderParser parser = new LinkHeaderParser(source);
+		List<Link> links = new ArrayList<Link>();
+
+		while (true) {
+
+			parser.skipWhitespace();
+
+			if (parser.index == parser.length) {
+				return links;
+			}
+
+			if (parser.current() == ',') {
+				parser.index++;
+				continue;
+			}
+
+			parser.readLinkValue(links);
+			parser.skipWhitespace();
+
+			if (parser.index != parser.length) {
+				parser.expect(',');
+			}
+		}
+	}
+
+	/**
+	 * Reads a single {@code <uri>; param=value; ...} link value and adds a {@link Link} per relation type to the given
+	 * {@link List}. Leaves the index at the first character not belonging to the link value.
+	 * 
+	 * @param links must not be {@literal null}.
+	 */
+	private void readLinkValue(List<Link> links) {
+
+		expect('<');
+
+		int end = source.indexOf('>', index);
+
+		if (end == -1) {
+			throw notCompliant();
+		}
+
+		String href = source.substring(index, end);
+		String rels = null;
+
+		index = end + 1;
+		skipWhitespace();
+
+		while (index < length && current() == ';') {
+
+			index++;
+			skipWhitespace();
+
+			int nameStart = index;
+
+			while (index < length && isTokenChar(current())) {
+				index++;
+			}
+
+			int nameLength = index - nameStart;
+
+			if (nameLength == 0) {
+				throw notCompliant();
+			}
+
+			// Only the first rel attribute is considered as defined in RFC-5988, section 5.3
+			boolean capture = rels == null && nameLength == REL.length()
+					&& source.regionMatches(true, nameStart, REL, 0, nameLength);
+
+			skipWhitespace();
+
+			if (index < length && current() == '=') {
+
+				index++;
+				skipWhitespace();
+
+				String value = readValue(capture);
+
+				if (capture) {
+					rels = value;
+				}
+
+				skipWhitespace();
+			}
+		}
+
+		if (rels == null) {
+			throw new IllegalArgumentException("Link does not provide a rel attribute!");
+		}
+
+		addLinks(href, rels, links);
+	}
+
+	/**
+	 * Reads an attribute value, either a quoted string or a token.
+	 * 
+	 * @param capture whether to return the value read or only skip it.
+	 * @return the unquoted and unescaped value or {@literal null} if the value was not captured.
+	 */
+	private String readValue(boolean capture) {
+
+		if (index < length && current() == '"') {
+			return readQuotedString(capture);
+		}
+
+		int start = index;
+
+		while (index < length) {
+
+			char c = current();
+
+			if (c == ';' || c == ',' || Character.isWhitespace(c)) {
+				break;
+			}
+
+			index++;
+		}
+
+		if (start == index) {
+			throw notCompliant();
+		}
+
+		return capture ? source.substring(start, index) : null;
+	}
+
+	private String readQuotedString(boolean capture) {
+
+		int start = ++index;
+		StringBuilder builder = null;
+
+		while (index < length) {
+
+			char c = current();
+
+			if (c == '"') {
+
+				String result = null;
+
+				if (capture) {
+					result = builder == null ? source.substring(start, index) : builder.append(source, start, index).toString();
+				}
+
+				index++;
+				return result;
+			}
+
+			if (c == '\\') {
+
+				if (index + 1 == length) {
+					break;
+				}
+
+				// Only allocate a builder if escaped characters are actually present
+				if (capture) {
+					builder = builder == null ? new StringBuilder() : builder;
+					builder.append(source, start, index);
+				}
+
+				index++;
+				start = index;
+			}
+
+			index++;
+		}
+
+		throw notCompliant();
+	}
+
+	/**
+	 * Adds a {@link Link} for each of the whitespace separated relation types to the given {@link List}.
+	 */
+	private static void addLinks(String href, String rels, List<Link> links) {
+
+		int length = rels.length();
+		int start = -1;
+		int added = 0;
+
+		for (int i = 0; i <= length; i++) {
+
+			boolean separator = i == length || Character.isWhitespace(rels.charAt(i));
+
+			if (separator && start != -1) {
+				links.add(new Link(href, rels.substring(start, i)));
+				start = -1;
+				added++;
+			} else if (!separator && start == -1) {
+				start = i;
+			}
+		}
+
+		if (added == 0) {
+			throw new IllegalArgumentException("Link does not provide a rel attribute!");
+		}
+	}
+
+	private void expect(char c) {
+
+		if (index >= length || current() != c) {
+			throw notCompliant();
+		}
+
+		index++;
+	}
+
+	private void skipWhitespace() {
+
+		while (index < length && Character.isWhitespace(current())) {
+			index++;
+		}
+	}
+
+	private char current() {
+		return source.charAt(index);
+	}
+
+	private IllegalArgumentException notCompliant() {
+		return new IllegalArgumentException(String.format("Given link header %s is not RFC5988 compliant!", source));
+	}
+
+	/**
+	 * Returns whether the given character is allowed in a token as defined in RFC-7230, section 3.2.6.
+	 */
+	private static boolean isTokenChar(char c) {
+
+		if (c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z' || c >= '0' && c <= '9') {
+			return true;
+		}
+
+		return "!#$%&'*+-.^_`|~".indexOf(c) != -1;
+	}
+}
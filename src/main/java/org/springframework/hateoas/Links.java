@@ -33,14 +33,17 @@ public class Links implements Iterable<Link> {
 	static final Links NO_LINKS = new Links(Collections.<Link> emptyList());
 
 	private final List<Link> links;
+	private volatile RelIndex index;
 
 	/**
-	 * Creates a new {@link Links} instance from the given {@link Link}s.
+	 * Creates a new {@link Links} instance from the given {@link Link}s. The given {@link List} is copied, so that later
+	 * changes to it are not reflected.
 	 * 
 	 * @param links
 	 */
 	public Links(List<Link> links) {
-		this.links = links == null ? Collections.<Link> emptyList() : Collections.unmodifiableList(links);
+		this.links = links == null ? Collections.<Link> emptyList() : Collections.unmodifiableList(new ArrayList<Link>(
+				links));
 	}
 
 	/**
@@ -60,6 +63,12 @@ public class Links implements Iterable<Link> {
 	 */
 	public Link getLink(String rel) {
 
+		RelIndex index = getIndex();
+
+		if (index != null) {
+			return index.getLink(rel);
+		}
+
 		for (Link link : links) {
 			if (link.getRel().equals(rel)) {
 				return link;
@@ -70,16 +79,22 @@ public class Links implements Iterable<Link> {
 	}
 
 	/**
-	 * Returns all {@link Links} with the given relation type.
+	 * Returns all {@link Links} with exactly the given relation type.
 	 * 
 	 * @return the links
 	 */
 	public List<Link> getLinks(String rel) {
 
+		RelIndex index = getIndex();
+
+		if (index != null) {
+			return index.getLinks(rel);
+		}
+
 		List<Link> result = new ArrayList<Link>();
 
 		for (Link link : links) {
-			if (link.getRel().endsWith(rel)) {
+			if (link.getRel().equals(rel)) {
 				result.add(link);
 			}
 		}
@@ -98,30 +113,41 @@ public class Links implements Iterable<Link> {
 	}
 
 	/**
-	 * Creates a {@link Links} instance from the given RFC5988-compatible link format.
+	 * Returns the {@link RelIndex} for the links, built on first access if there are enough links to make it pay off.
 	 * 
-	 * @param source a comma separated list of {@link Link} representations.
-	 * @return the {@link Links} represented by the given {@link String}.
+	 * @return the {@link RelIndex} or {@literal null} if the links are to be scanned.
 	 */
-	public static Links valueOf(String source) {
+	private RelIndex getIndex() {
 
-		if (!StringUtils.hasText(source)) {
-			return NO_LINKS;
+		if (!RelIndex.isWorthBuildingFor(links)) {
+			return null;
 		}
 
-		String[] elements = source.split(",");
-		List<Link> links = new ArrayList<Link>(elements.length);
+		RelIndex result = this.index;
 
-		for (String element : elements) {
+		if (result == null) {
+			result = new RelIndex(links);
+			this.index = result;
+		}
 
-			Link link = Link.valueOf(element);
+		return result;
+	}
 
-			if (link != null) {
-				links.add(link);
-			}
+	/**
+	 * Creates a {@link Links} instance from the given RFC5988-compatible link format. Commas are only considered
+	 * separators outside of URIs and quoted attribute values. A link listing multiple relation types results in one
+	 * {@link Link} per relation type.
+	 * 
+	 * @param source a comma separated list of {@link Link} representations.
+	 * @return the {@link Links} represented by the given {@link String}.
+	 */
+	public static Links valueOf(String source) {
+
+		if (!StringUtils.hasText(source)) {
+			return NO_LINKS;
 		}
 
-		return new Links(links);
+		return new Links(LinkHeaderParser.parseLinks(source));
 	}
 
 	/**
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2014 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas;
+
+import java.io.InputStream;
+import java.util.Set;
+
+/**
+ * {@link LinkDiscoverer} that is able to look up the links of multiple relation types in a single pass over a
+ * representation.
+ * 
+ * @since 0.10
+ */
+public interface MultiRelLinkDiscoverer extends LinkDiscoverer {
+
+	/**
+	 * Returns all links with the given relation types found in the given {@link String} representation. The
+	 * representation is only processed once, no matter how many relation types are requested.
+	 * 
+	 * @param rels the relation types to look for, {@literal null} or an empty {@link Set} to find the links of all
+	 *          relation types. Implementations that cannot determine the relation types contained in a representation
+	 *          return empty {@link Links} in that case.
+	 * @param representation must not be {@literal null} or empty.
+	 * @return will never be {@literal null}.
+	 */
+	Links findLinks(Set<String> rels, String representation);
+
+	/**
+	 * Returns all links with the given relation types found in the given {@link InputStream} representation. The
+	 * representation is only read once, no matter how many relation types are requested.
+	 * 
+	 * @param rels the relation types to look for, {@literal null} or an empty {@link Set} to find the links of all
+	 *          relation types. Implementations that cannot determine the relation types contained in a representation
+	 *          return empty {@link Links} in that case.
+	 * @param representation must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	Links findLinks(Set<String> rels, InputStream representation);
+}
@@ -18,6 +18,7 @@ package org.springframework.hateoas;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Iterator;
 
 import javax.xml.bind.annotation.XmlAttribute;
 import javax.xml.bind.annotation.XmlRootElement;
@@ -66,6 +67,35 @@ public class PagedResources<T> extends Resources<T> {
 		this.metadata = metadata;
 	}
 
+	/**
+	 * Creates a new {@link PagedResources} streaming the content from the given {@link Iterator}. The content is consumed
+	 * lazily and can only be iterated once. Elements of different types are partially buffered when rendered, see
+	 * {@link Resources#Resources(Iterator, Link...)} for details.
+	 * 
+	 * @param content must not be {@literal null}.
+	 * @param metadata
+	 * @param links
+	 * @see Resources#Resources(Iterator, Link...)
+	 * @since 0.10
+	 */
+	public PagedResources(Iterator<T> content, PageMetadata metadata, Link... links) {
+		this(content, metadata, Arrays.asList(links));
+	}
+
+	/**
+	 * Creates a new {@link PagedResources} streaming the content from the given {@link Iterator}.
+	 * 
+	 * @param content must not be {@literal null}.
+	 * @param metadata
+	 * @param links
+	 * @see Resources#Resources(Iterator, Iterable)
+	 * @since 0.10
+	 */
+	public PagedResources(Iterator<T> content, PageMetadata metadata, Iterable<Link> links) {
+		super(content, links);
+		this.metadata = metadata;
+	}
+
 	/**
 	 * Returns the pagination metadata.
 	 * 
@@ -97,6 +127,22 @@ public class PagedResources<T> extends Resources<T> {
 		return new PagedResources<T>(resources, metadata);
 	}
 
+	/**
+	 * Factory method to create a {@link PagedResources} instance lazily wrapping the entities returned by the given
+	 * {@link Iterator} and pagination metadata.
+	 * 
+	 * @param content must not be {@literal null}.
+	 * @param metadata
+	 * @return
+	 * @see Resources#Resources(Iterator, Link...)
+	 * @since 0.10
+	 */
+	public static <T extends Resource<S>, S> PagedResources<T> wrap(Iterator<S> content, PageMetadata metadata) {
+
+		Assert.notNull(content);
+		return new PagedResources<T>(new ResourceWrappingIterator<T, S>(content), metadata);
+	}
+
 	/**
 	 * Returns the Link pointing to the next page (if set).
 	 * 
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2014 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Index of {@link Link}s by relation type to look up links in constant time. Only worth building for a larger number
+ * of links that are looked up repeatedly, see {@link #isWorthBuildingFor(List)}. The index is a snapshot and has to be
+ * rebuilt if the source {@link List} changes.
+ * 
+ * @since 0.10
+ */
+final class RelIndex {
+
+	private static final int THRESHOLD = 8;
+
+	private final Map<String, List<Link>> links;
+
+	/**
+	 * Creates a new {@link RelIndex} for the given {@link Link}s keeping their order per relation type.
+	 * 
+	 * @param links must not be {@literal null}.
+	 */
+	public RelIndex(List<Link> links) {
+
+		this.links = new HashMap<String, List<Link>>(links.size() * 4 / 3 + 1);
+
+		for (Link link : links) {
+
+			List<Link> existing = this.links.get(link.getRel());
+
+			if (existing == null) {
+				existing = new ArrayList<Link>(1);
+				this.links.put(link.getRel(), existing);
+			}
+
+			existing.add(link);
+		}
+	}
+
+	/**
+	 * Returns whether building a {@link RelIndex} for the given {@link Link}s pays off compared to scanning them.
+	 * 
+	 * @param links must not be {@literal null}.
+	 * @return
+	 */
+	public static boolean isWorthBuildingFor(List<Link> links) {
+		return links.size() >= THRESHOLD;
+	}
+
+	/**
+	 * Returns the first {@link Link} with the given relation type.
+	 * 
+	 * @param rel
+	 * @return the {@link Link} or {@literal null} if none found.
+	 */
+	public Link getLink(String rel) {
+
+		List<Link> result = links.get(rel);
+		return result == null ? null : result.get(0);
+	}
+
+	/**
+	 * Returns all {@link Link}s with the given relation type.
+	 * 
+	 * @param rel
+	 * @return a new {@link List}, will never be {@literal null}.
+	 */
+	public List<Link> getLinks(String rel) {
+
+		List<Link> result = links.get(rel);
+		return result == null ? new ArrayList<Link>() : new ArrayList<Link>(result);
+	}
+}
@@ -29,10 +29,12 @@ import org.springframework.util.Assert;
  */
 public class ResourceSupport implements Identifiable<Link> {
 
-	private final List<Link> links;
+	private final LinkList links;
+	private RelIndex index;
+	private int indexedVersion;
 
 	public ResourceSupport() {
-		this.links = new ArrayList<Link>();
+		this.links = new LinkList();
 	}
 
 	/**
@@ -102,6 +104,7 @@ public class ResourceSupport implements Identifiable<Link> {
 	 */
 	public void removeLinks() {
 		this.links.clear();
+		this.index = null;
 	}
 
 	/**
@@ -112,6 +115,12 @@ public class ResourceSupport implements Identifiable<Link> {
 	 */
 	public Link getLink(String rel) {
 
+		RelIndex index = getIndex();
+
+		if (index != null) {
+			return index.getLink(rel);
+		}
+
 		for (Link link : links) {
 			if (link.getRel().equals(rel)) {
 				return link;
@@ -121,6 +130,29 @@ public class ResourceSupport implements Identifiable<Link> {
 		return null;
 	}
 
+	/**
+	 * Returns the {@link RelIndex} for the current links, (re)built on access if the links have changed since and there
+	 * are enough of them to make it pay off. Changes are also detected if they were made through {@link #getLinks()}.
+	 * 
+	 * @return the {@link RelIndex} or {@literal null} if the links are to be scanned.
+	 */
+	private RelIndex getIndex() {
+
+		if (!RelIndex.isWorthBuildingFor(links)) {
+			this.index = null;
+			return null;
+		}
+
+		int version = links.getVersion();
+
+		if (index == null || indexedVersion != version) {
+			this.index = new RelIndex(links);
+			this.indexedVersion = version;
+		}
+
+		return index;
+	}
+
 	/* 
 	 * (non-Javadoc)
 	 * @see java.lang.Object#toString()
@@ -158,4 +190,35 @@ public class ResourceSupport implements Identifiable<Link> {
 	public int hashCode() {
 		return this.links.hashCode();
 	}
+
+	/**
+	 * {@link ArrayList} exposing a version that changes with every modification, so that a {@link RelIndex} built for it
+	 * can be detected to be stale.
+	 */
+	private static class LinkList extends ArrayList<Link> {
+
+		private static final long serialVersionUID = 2981765262380393532L;
+
+		private int replacements = 0;
+
+		/* 
+		 * (non-Javadoc)
+		 * @see java.util.ArrayList#set(int, java.lang.Object)
+		 */
+		@Override
+		public Link set(int index, Link element) {
+
+			replacements++;
+			return super.set(index, element);
+		}
+
+		/**
+		 * Returns a version of the list that changes whenever the list is modified structurally or elements are replaced.
+		 * 
+		 * @return
+		 */
+		public int getVersion() {
+			return modCount + replacements;
+		}
+	}
 }
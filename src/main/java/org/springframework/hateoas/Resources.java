@@ -25,6 +25,7 @@ import javax.xml.bind.annotation.XmlAnyElement;
 import javax.xml.bind.annotation.XmlElementWrapper;
 import javax.xml.bind.annotation.XmlRootElement;
 
+import org.springframework.hateoas.core.StreamingCollection;
 import org.springframework.util.Assert;
 
 /**
@@ -72,6 +73,38 @@ public class Resources<T> extends ResourceSupport implements Iterable<T> {
 		this.add(links);
 	}
 
+	/**
+	 * Creates a {@link Resources} instance streaming the content from the given {@link Iterator}. The content is not
+	 * copied but consumed lazily, i.e. it can only be iterated once, e.g. by rendering the {@link Resources}. Use this to
+	 * render large collections or database cursors without holding all elements in memory. Note, that asking the
+	 * {@link #getContent()} for its size buffers all elements not traversed yet. When rendering HAL, only the elements of
+	 * a single relation type are streamed, the ones of all other relation types are buffered until the {@link Iterator}
+	 * is exhausted. Thus the content should consist of elements of a single type.
+	 * 
+	 * @param content must not be {@literal null}.
+	 * @param links the links to be added to the {@link Resources}.
+	 * @since 0.10
+	 */
+	public Resources(Iterator<T> content, Link... links) {
+		this(content, Arrays.asList(links));
+	}
+
+	/**
+	 * Creates a {@link Resources} instance streaming the content from the given {@link Iterator}.
+	 * 
+	 * @param content must not be {@literal null}.
+	 * @param links the links to be added to the {@link Resources}.
+	 * @see #Resources(Iterator, Link...)
+	 * @since 0.10
+	 */
+	public Resources(Iterator<T> content, Iterable<Link> links) {
+
+		Assert.notNull(content);
+
+		this.content = new StreamingCollection<T>(content);
+		this.add(links);
+	}
+
 	/**
 	 * Creates a new {@link Resources} instance by wrapping the given domain class instances into a {@link Resource}.
 	 * 
@@ -91,6 +124,22 @@ public class Resources<T> extends ResourceSupport implements Iterable<T> {
 		return new Resources<T>(resources);
 	}
 
+	/**
+	 * Creates a new {@link Resources} instance lazily wrapping the domain class instances returned by the given
+	 * {@link Iterator} into a {@link Resource}. See {@link #Resources(Iterator, Link...)} for the buffering applied when
+	 * rendering content of different types.
+	 * 
+	 * @param content must not be {@literal null}.
+	 * @return
+	 * @see #Resources(Iterator, Link...)
+	 * @since 0.10
+	 */
+	public static <T extends Resource<S>, S> Resources<T> wrap(Iterator<S> content) {
+
+		Assert.notNull(content);
+		return new Resources<T>(new ResourceWrappingIterator<T, S>(content));
+	}
+
 	/**
 	 * Returns the underlying elements.
 	 * 
@@ -101,7 +150,7 @@ public class Resources<T> extends ResourceSupport implements Iterable<T> {
 	@org.codehaus.jackson.annotate.JsonProperty("content")
 	@com.fasterxml.jackson.annotation.JsonProperty("content")
 	public Collection<T> getContent() {
-		return Collections.unmodifiableCollection(content);
+		return content instanceof StreamingCollection ? content : Collections.unmodifiableCollection(content);
 	}
 
 	/* 
@@ -155,4 +204,51 @@ public class Resources<T> extends ResourceSupport implements Iterable<T> {
 
 		return result;
 	}
+
+	/**
+	 * {@link Iterator} wrapping the elements of the given source {@link Iterator} into {@link Resource} instances.
+	 * 
+	 * @since 0.10
+	 */
+	static class ResourceWrappingIterator<T extends Resource<S>, S> implements Iterator<T> {
+
+		private final Iterator<S> source;
+
+		/**
+		 * Creates a new {@link ResourceWrappingIterator} for the given source {@link Iterator}.
+		 * 
+		 * @param source must not be {@literal null}.
+		 */
+		public ResourceWrappingIterator(Iterator<S> source) {
+			this.source = source;
+		}
+
+		/* 
+		 * (non-Javadoc)
+		 * @see java.util.Iterator#hasNext()
+		 */
+		@Override
+		public boolean hasNext() {
+			return source.hasNext();
+		}
+
+		/* 
+		 * (non-Javadoc)
+		 * @see java.util.Iterator#next()
+		 */
+		@Override
+		@SuppressWarnings("unchecked")
+		public T next() {
+			return (T) new Resource<S>(source.next());
+		}
+
+		/* 
+		 * (non-Javadoc)
+		 * @see java.util.Iterator#remove()
+		 */
+		@Override
+		public void remove() {
+			throw new UnsupportedOperationException();
+		}
+	}
 }
@@ -31,6 +31,8 @@ public final class TemplateVariable {
 	private final String name;
 	private final TemplateVariable.VariableType type;
 	private final String description;
+	private final int prefixLength;
+	private final boolean exploded;
 
 	/**
 	 * Creates a new {@link TemplateVariable} with the given name and type.
@@ -50,14 +52,32 @@ public final class TemplateVariable {
 	 * @param description must not be {@literal null}.
 	 */
 	public TemplateVariable(String name, TemplateVariable.VariableType type, String description) {
+		this(name, type, description, 0, false);
+	}
+
+	/**
+	 * Creates a new {@link TemplateVariable} with the given name, type, description and RFC 6570 value modifiers.
+	 * 
+	 * @param name must not be {@literal null} or empty.
+	 * @param type must not be {@literal null}.
+	 * @param description must not be {@literal null}.
+	 * @param prefixLength the maximum number of characters of the value to expand, {@literal 0} for no limit.
+	 * @param exploded whether composite values shall be exploded.
+	 */
+	TemplateVariable(String name, TemplateVariable.VariableType type, String description, int prefixLength,
+			boolean exploded) {
 
 		Assert.hasText("Variable name must not be null or empty!");
 		Assert.notNull("Variable type must not be null!");
 		Assert.notNull("Description must not be null!");
+		Assert.isTrue(prefixLength >= 0, "Prefix length must not be negative!");
+		Assert.isTrue(prefixLength == 0 || !exploded, "Variable can either have a prefix or be exploded, not both!");
 
 		this.name = name;
 		this.type = type;
 		this.description = description;
+		this.prefixLength = prefixLength;
+		this.exploded = exploded;
 	}
 
 	/**
@@ -87,6 +107,28 @@ public final class TemplateVariable {
 		return description;
 	}
 
+	/**
+	 * Returns the maximum number of characters of a value to be expanded as defined by a prefix modifier (e.g.
+	 * <code>{name:3}</code>) or {@literal 0} in case the value is not to be truncated.
+	 * 
+	 * @return
+	 * @since 0.10
+	 */
+	public int getPrefixLength() {
+		return prefixLength;
+	}
+
+	/**
+	 * Returns whether composite values shall be expanded element by element as declared by the explode modifier (e.g.
+	 * <code>{name*}</code>).
+	 * 
+	 * @return
+	 * @since 0.10
+	 */
+	public boolean isExploded() {
+		return exploded;
+	}
+
 	/**
 	 * Returns whether the variable has a description.
 	 * 
@@ -116,6 +158,21 @@ public final class TemplateVariable {
 		return this.type.canBeCombinedWith(variable.type);
 	}
 
+	/**
+	 * Returns the variable specification as used within a template expression, i.e. the name followed by the modifier if
+	 * present.
+	 * 
+	 * @return
+	 */
+	String toVariableSpec() {
+
+		if (exploded) {
+			return name + "*";
+		}
+
+		return prefixLength == 0 ? name : name + ":" + prefixLength;
+	}
+
 	/* 
 	 * (non-Javadoc)
 	 * @see java.lang.Object#toString()
@@ -123,7 +180,7 @@ public final class TemplateVariable {
 	@Override
 	public String toString() {
 
-		String base = String.format("{%s%s}", type.toString(), name);
+		String base = String.format("{%s%s}", type.toString(), toVariableSpec());
 		return StringUtils.hasText(description) ? String.format("%s - %s", base, description) : base;
 	}
 
@@ -143,7 +200,8 @@ public final class TemplateVariable {
 		}
 
 		TemplateVariable that = (TemplateVariable) obj;
-		return this.name.equals(that.name) && this.type.equals(that.type);
+		return this.name.equals(that.name) && this.type.equals(that.type) && this.prefixLength == that.prefixLength
+				&& this.exploded == that.exploded;
 	}
 
 	/* 
@@ -157,31 +215,49 @@ public final class TemplateVariable {
 
 		result += this.name.hashCode();
 		result += this.type.hashCode();
+		result += 31 * this.prefixLength;
+		result += this.exploded ? 1 : 0;
 
 		return result;
 	}
 
 	/**
-	 * An enumeration for all supported variable types.
+	 * An enumeration for all supported variable types. Besides the key and whether variables of the type are optional,
+	 * each type carries the expansion rules defined for its operator in RFC 6570, Appendix A.
 	 * 
 	 * @author Oliver Gierke
 	 */
 	public static enum VariableType {
 
-		PATH_VARIABLE("", false), //
-		REQUEST_PARAM("?", true), //
-		REQUEST_PARAM_CONTINUED("&", true), //
-		SEGMENT("/", true), //
-		FRAGMENT("#", true);
+		PATH_VARIABLE("", false, "", ",", false, "", false), //
+		RESERVED("+", false, "", ",", false, "", true), //
+		REQUEST_PARAM("?", true, "?", "&", true, "=", false), //
+		REQUEST_PARAM_CONTINUED("&", true, "&", "&", true, "=", false), //
+		SEGMENT("/", true, "/", "/", false, "", false), //
+		LABEL(".", true, ".", ".", false, "", false), //
+		PATH_PARAMETER(";", true, ";", ";", true, "", false), //
+		FRAGMENT("#", true, "#", ",", false, "", true);
 
 		private static final List<VariableType> combinableTypes = Arrays.asList(REQUEST_PARAM, REQUEST_PARAM_CONTINUED);
 
 		private final String key;
 		private final boolean optional;
+		private final String prefix;
+		private final String separator;
+		private final boolean named;
+		private final String ifEmpty;
+		private final boolean allowReserved;
+
+		private VariableType(String key, boolean optional, String prefix, String separator, boolean named,
+				String ifEmpty, boolean allowReserved) {
 
-		private VariableType(String key, boolean optional) {
 			this.key = key;
 			this.optional = optional;
+			this.prefix = prefix;
+			this.separator = separator;
+			this.named = named;
+			this.ifEmpty = ifEmpty;
+			this.allowReserved = allowReserved;
 		}
 
 		/**
@@ -197,6 +273,52 @@ public final class TemplateVariable {
 			return this.equals(type) || combinableTypes.contains(this) && combinableTypes.contains(type);
 		}
 
+		/**
+		 * Returns the {@link String} to prepend to the expansion of an expression of this type in case at least one of
+		 * its variables is defined.
+		 * 
+		 * @return
+		 */
+		String getPrefix() {
+			return prefix;
+		}
+
+		/**
+		 * Returns the {@link String} to separate the expansions of multiple variables of an expression with.
+		 * 
+		 * @return
+		 */
+		String getSeparator() {
+			return separator;
+		}
+
+		/**
+		 * Returns whether the expansion of a variable of this type has to be prefixed with the variable's name.
+		 * 
+		 * @return
+		 */
+		boolean isNamed() {
+			return named;
+		}
+
+		/**
+		 * Returns the {@link String} to append to the name of a named variable in case its value is empty.
+		 * 
+		 * @return
+		 */
+		String getIfEmpty() {
+			return ifEmpty;
+		}
+
+		/**
+		 * Returns whether reserved characters contained in values get expanded without being encoded.
+		 * 
+		 * @return
+		 */
+		boolean allowsReserved() {
+			return allowReserved;
+		}
+
 		/**
 		 * Returns the {@link VariableType} for the given variable key.
 		 * 
@@ -132,7 +132,7 @@ public final class TemplateVariables implements Iterable<TemplateVariable> {
 			}
 
 			previous = variable;
-			builder.append(variable.getName());
+			builder.append(variable.toVariableSpec());
 		}
 
 		return builder.append("}").toString();
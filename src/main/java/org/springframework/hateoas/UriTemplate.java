@@ -17,20 +17,18 @@ package org.springframework.hateoas;
 
 import java.net.URI;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import org.springframework.hateoas.TemplateVariable.VariableType;
 import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentReferenceHashMap;
 import org.springframework.util.StringUtils;
-import org.springframework.web.util.UriComponentsBuilder;
 
 /**
- * Custom URI template to support qualified URI template variables.
+ * Custom URI template to support qualified URI template variables. Instances are immutable, prefer {@link #of(String)}
+ * to obtain a shared, already parsed instance for a given template {@link String}.
  * 
  * @author Oliver Gierke
  * @see http://tools.ietf.org/html/rfc6570
@@ -38,10 +36,21 @@ import org.springframework.web.util.UriComponentsBuilder;
  */
 public class UriTemplate implements Iterable<TemplateVariable> {
 
-	private static final Pattern VARIABLE_REGEX = Pattern.compile("\\{([\\?\\&#/]?)([\\w\\,]+)\\}");
+	/**
+	 * Upper bound for the number of parsed templates held in {@link #CACHE}. Templates beyond that limit still get parsed
+	 * but will not be cached.
+	 */
+	private static final int CACHE_LIMIT = 1024;
+
+	/**
+	 * Cache of parsed {@link UriTemplate}s keyed by the template {@link String}. Backed by soft references so that
+	 * cached templates can be reclaimed under memory pressure.
+	 */
+	private static final Map<String, UriTemplate> CACHE = new ConcurrentReferenceHashMap<String, UriTemplate>();
 
-	private final TemplateVariables variables;;
-	private String baseUri;
+	private final TemplateVariables variables;
+	private final String baseUri;
+	private final CompiledUriTemplate compiled;
 
 	/**
 	 * Creates a new {@link UriTemplate} using the given template string.
@@ -52,48 +61,64 @@ public class UriTemplate implements Iterable<TemplateVariable> {
 
 		Assert.hasText(template, "Template must not be null or empty!");
 
-		Matcher matcher = VARIABLE_REGEX.matcher(template);
-		int baseUriEndIndex = template.length();
-		List<TemplateVariable> variables = new ArrayList<TemplateVariable>();
-
-		while (matcher.find()) {
+		this.compiled = CompiledUriTemplate.compile(template);
 
-			int start = matcher.start(0);
-
-			VariableType type = VariableType.from(matcher.group(1));
-			String[] names = matcher.group(2).split(",");
-
-			for (String name : names) {
-				TemplateVariable variable = new TemplateVariable(name, type);
-
-				if (!variable.isRequired() && start < baseUriEndIndex) {
-					baseUriEndIndex = start;
-				}
-
-				variables.add(variable);
-			}
-		}
+		List<TemplateVariable> variables = compiled.getVariables();
 
 		this.variables = variables.isEmpty() ? TemplateVariables.NONE : new TemplateVariables(variables);
-		this.baseUri = template.substring(0, baseUriEndIndex);
+		this.baseUri = template.substring(0, compiled.getBaseUriEndIndex());
 	}
 
 	/**
-	 * Creates a new {@link UriTemplate} from the given base URI and {@link TemplateVariables}.
+	 * Creates a new {@link UriTemplate} from the given base URI and {@link TemplateVariables}. Variables not declared in
+	 * the base URI get appended to it as expressions. The variables are exposed and expanded in the order they appear in
+	 * the resulting template, i.e. the ones declared in the base URI come first.
 	 * 
 	 * @param baseUri must not be {@literal null} or empty.
 	 * @param variables defaults to {@link TemplateVariables#NONE}.
 	 */
 	public UriTemplate(String baseUri, TemplateVariables variables) {
 
-		Assert.hasText("Base URI must not be null or empty!");
+		Assert.hasText(baseUri, "Base URI must not be null or empty!");
+
+		TemplateVariables source = variables == null ? TemplateVariables.NONE : variables;
 
 		this.baseUri = baseUri;
-		this.variables = variables == null ? TemplateVariables.NONE : variables;
+		this.compiled = CompiledUriTemplate.compile(baseUri + getVariablesNotDeclaredIn(baseUri, source).toString());
+		this.variables = alignWith(compiled.getVariables(), source);
+	}
+
+	/**
+	 * Returns the {@link UriTemplate} for the given template {@link String}. Parsed templates are cached, so that
+	 * repeated calls for the same template do not parse it again.
+	 * 
+	 * @param template must not be {@literal null} or empty.
+	 * @return
+	 * @since 0.10
+	 */
+	public static UriTemplate of(String template) {
+
+		Assert.hasText(template, "Template must not be null or empty!");
+
+		UriTemplate result = CACHE.get(template);
+
+		if (result != null) {
+			return result;
+		}
+
+		result = new UriTemplate(template);
+
+		// Plain URIs are cheap to parse and mostly unique, so don't let them crowd out actual templates
+		if (!result.variables.asList().isEmpty() && CACHE.size() < CACHE_LIMIT) {
+			CACHE.put(template, result);
+		}
+
+		return result;
 	}
 
 	/**
-	 * Creates a new {@link UriTemplate} with the current {@link TemplateVariable}s augmented with the given ones.
+	 * Creates a new {@link UriTemplate} with the current {@link TemplateVariable}s augmented with the given ones. See
+	 * {@link #UriTemplate(String, TemplateVariables)} for the order of the resulting variables.
 	 * 
 	 * @param variables can be {@literal null}.
 	 * @return
@@ -119,7 +144,7 @@ public class UriTemplate implements Iterable<TemplateVariable> {
 			return false;
 		}
 
-		return VARIABLE_REGEX.matcher(candidate).find();
+		return CompiledUriTemplate.containsExpression(candidate);
 	}
 
 	/**
@@ -156,21 +181,7 @@ public class UriTemplate implements Iterable<TemplateVariable> {
 	 * @see #expand(Map)
 	 */
 	public URI expand(Object... parameters) {
-
-		if (TemplateVariables.NONE.equals(variables)) {
-			return URI.create(baseUri);
-		}
-
-		UriComponentsBuilder builder = UriComponentsBuilder.fromUriString(baseUri);
-		Iterator<Object> iterator = Arrays.asList(parameters).iterator();
-
-		for (TemplateVariable variable : variables) {
-
-			Object value = iterator.hasNext() ? iterator.next() : null;
-			appendToBuilder(builder, variable, value);
-		}
-
-		return builder.build().toUri();
+		return URI.create(expandToString(parameters));
 	}
 
 	/**
@@ -179,20 +190,35 @@ public class UriTemplate implements Iterable<TemplateVariable> {
 	 * @param parameters must not be {@literal null}.
 	 * @return
 	 */
-	public URI expand(Map<String, Object> parameters) {
-
-		if (TemplateVariables.NONE.equals(variables)) {
-			return URI.create(baseUri);
-		}
+	public URI expand(Map<String, ? extends Object> parameters) {
+		return URI.create(expandToString(parameters));
+	}
 
-		Assert.notNull(parameters, "Parameters must not be null!");
-		UriComponentsBuilder builder = UriComponentsBuilder.fromUriString(baseUri);
+	/**
+	 * Expands the {@link UriTemplate} into a {@link String} using the given parameters. The values will be applied in the
+	 * order of the variables discovered. Prefer this method over {@link #expand(Object...)} in case the result is needed
+	 * as {@link String} anyway.
+	 * 
+	 * @param parameters
+	 * @return
+	 * @since 0.10
+	 */
+	public String expandToString(Object... parameters) {
+		return compiled.expand(parameters == null ? new Object[0] : parameters);
+	}
 
-		for (TemplateVariable variable : variables) {
-			appendToBuilder(builder, variable, parameters.get(variable.getName()));
-		}
+	/**
+	 * Expands the {@link UriTemplate} into a {@link String} using the given parameters. Prefer this method over
+	 * {@link #expand(Map)} in case the result is needed as {@link String} anyway.
+	 * 
+	 * @param parameters must not be {@literal null}.
+	 * @return
+	 * @since 0.10
+	 */
+	public String expandToString(Map<String, ? extends Object> parameters) {
 
-		return builder.build().toUri();
+		Assert.notNull(parameters, "Parameters must not be null!");
+		return compiled.expand(parameters);
 	}
 
 	/* 
@@ -210,53 +236,95 @@ public class UriTemplate implements Iterable<TemplateVariable> {
 	 */
 	@Override
 	public String toString() {
-		return baseUri + getOptionalVariables().toString();
+		return compiled.getTemplate();
 	}
 
-	private TemplateVariables getOptionalVariables() {
+	/**
+	 * Returns all of the given {@link TemplateVariable}s not already declared in the given base URI.
+	 * Request parameters continue a query already started by the base URI or a previous variable instead of starting a
+	 * second one.
+	 * 
+	 * @param baseUri must not be {@literal null}.
+	 * @param variables must not be {@literal null}.
+	 * @return
+	 */
+	private static TemplateVariables getVariablesNotDeclaredIn(String baseUri, TemplateVariables variables) {
+
+		List<String> declared = new ArrayList<String>();
+
+		for (TemplateVariable variable : CompiledUriTemplate.compile(baseUri).getVariables()) {
+			declared.add(variable.getName());
+		}
 
 		List<TemplateVariable> result = new ArrayList<TemplateVariable>();
+		boolean queryStarted = baseUri.indexOf('?') != -1;
+
+		for (TemplateVariable variable : variables) {
+
+			if (declared.contains(variable.getName())) {
+				continue;
+			}
 
-		for (TemplateVariable variable : this) {
-			if (!variable.isRequired()) {
-				result.add(variable);
+			VariableType type = variable.getType();
+
+			if (VariableType.REQUEST_PARAM.equals(type) || VariableType.REQUEST_PARAM_CONTINUED.equals(type)) {
+				VariableType queryType = queryStarted ? VariableType.REQUEST_PARAM_CONTINUED : VariableType.REQUEST_PARAM;
+				variable = withType(variable, queryType);
+				queryStarted = true;
 			}
+
+			result.add(variable);
 		}
 
 		return new TemplateVariables(result);
 	}
 
+	private static TemplateVariable withType(TemplateVariable variable, VariableType type) {
+
+		if (type.equals(variable.getType())) {
+			return variable;
+		}
+
+		return new TemplateVariable(variable.getName(), type, variable.getDescription(), variable.getPrefixLength(),
+				variable.isExploded());
+	}
+
 	/**
-	 * Appends the value for the given {@link TemplateVariable} to the given {@link UriComponentsBuilder}.
+	 * Returns the given {@link TemplateVariables} in the order of the given variables of the compiled template. Variables
+	 * only declared in the compiled template are taken from it.
 	 * 
-	 * @param builder must not be {@literal null}.
-	 * @param variable must not be {@literal null}.
-	 * @param value can be {@literal null}.
+	 * @param compiled must not be {@literal null}.
+	 * @param variables must not be {@literal null}.
+	 * @return
 	 */
-	private static void appendToBuilder(UriComponentsBuilder builder, TemplateVariable variable, Object value) {
+	private static TemplateVariables alignWith(List<TemplateVariable> compiled, TemplateVariables variables) {
 
-		if (value == null) {
+		if (compiled.isEmpty()) {
+			return TemplateVariables.NONE;
+		}
 
-			if (variable.isRequired()) {
-				throw new IllegalArgumentException(String.format("Template variable %s is required but no value was given!",
-						variable.getName()));
-			}
+		List<TemplateVariable> candidates = new ArrayList<TemplateVariable>(variables.asList());
+		List<TemplateVariable> result = new ArrayList<TemplateVariable>(compiled.size());
 
-			return;
+		for (TemplateVariable variable : compiled) {
+			result.add(removeByName(candidates, variable));
 		}
 
-		switch (variable.getType()) {
-			case REQUEST_PARAM:
-			case REQUEST_PARAM_CONTINUED:
-				builder.queryParam(variable.getName(), value);
-				break;
-			case PATH_VARIABLE:
-			case SEGMENT:
-				builder.pathSegment(value.toString());
-				break;
-			case FRAGMENT:
-				builder.fragment(value.toString());
-				break;
+		return new TemplateVariables(result);
+	}
+
+	private static TemplateVariable removeByName(List<TemplateVariable> candidates, TemplateVariable fallback) {
+
+		for (Iterator<TemplateVariable> iterator = candidates.iterator(); iterator.hasNext();) {
+
+			TemplateVariable candidate = iterator.next();
+
+			if (candidate.getName().equals(fallback.getName())) {
+				iterator.remove();
+				return candidate;
+			}
 		}
+
+		return fallback;
 	}
 }
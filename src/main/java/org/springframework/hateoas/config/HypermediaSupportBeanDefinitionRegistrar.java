@@ -28,7 +28,9 @@ import java.util.Map;
 import org.springframework.beans.BeansException;
 import org.springframework.beans.factory.BeanFactory;
 import org.springframework.beans.factory.BeanFactoryAware;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.NoSuchBeanDefinitionException;
+import org.springframework.beans.factory.NoUniqueBeanDefinitionException;
 import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.beans.factory.config.BeanDefinitionHolder;
 import org.springframework.beans.factory.config.BeanPostProcessor;
@@ -38,6 +40,7 @@ import org.springframework.beans.factory.support.BeanDefinitionReaderUtils;
 import org.springframework.beans.factory.support.BeanDefinitionRegistry;
 import org.springframework.beans.factory.support.RootBeanDefinition;
 import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationContextAware;
 import org.springframework.context.annotation.ImportBeanDefinitionRegistrar;
 import org.springframework.core.type.AnnotationMetadata;
 import org.springframework.hateoas.EntityLinks;
@@ -46,9 +49,12 @@ import org.springframework.hateoas.LinkDiscoverers;
 import org.springframework.hateoas.RelProvider;
 import org.springframework.hateoas.config.EnableHypermediaSupport.HypermediaType;
 import org.springframework.hateoas.core.AnnotationRelProvider;
+import org.springframework.hateoas.core.CachingRelProvider;
 import org.springframework.hateoas.core.DefaultRelProvider;
 import org.springframework.hateoas.core.DelegatingRelProvider;
 import org.springframework.hateoas.core.EvoInflectorRelProvider;
+import org.springframework.hateoas.core.HypermediaMetrics;
+import org.springframework.hateoas.core.HypermediaMetricsHolder;
 import org.springframework.hateoas.hal.CurieProvider;
 import org.springframework.hateoas.hal.HalLinkDiscoverer;
 import org.springframework.hateoas.hal.Jackson1HalModule;
@@ -75,6 +81,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 class HypermediaSupportBeanDefinitionRegistrar implements ImportBeanDefinitionRegistrar {
 
 	private static final String DELEGATING_REL_PROVIDER_BEAN_NAME = "_relProvider";
+	private static final String UNCACHED_REL_PROVIDER_BEAN_NAME = "_uncachedRelProvider";
 	private static final String LINK_DISCOVERER_REGISTRY_BEAN_NAME = "_linkDiscovererRegistry";
 	private static final String HAL_OBJECT_MAPPER_BEAN_NAME = "_halObjectMapper";
 
@@ -140,11 +147,15 @@ class HypermediaSupportBeanDefinitionRegistrar implements ImportBeanDefinitionRe
 		}
 
 		registerRelProviderPluginRegistryAndDelegate(registry);
+
+		BeanDefinitionBuilder metricsInstallerBuilder = rootBeanDefinition(HypermediaMetricsInstaller.class);
+		registerSourcedBeanDefinition(metricsInstallerBuilder, metadata, registry);
 	}
 
 	/**
 	 * Registers bean definitions for a {@link PluginRegistry} to capture {@link RelProvider} instances. Wraps the
-	 * registry into a {@link DelegatingRelProvider} bean definition backed by the registry.
+	 * registry into a {@link DelegatingRelProvider} bean definition backed by the registry and exposes it through a
+	 * {@link CachingRelProvider} as primary {@link RelProvider}.
 	 * 
 	 * @param registry
 	 */
@@ -160,7 +171,8 @@ class HypermediaSupportBeanDefinitionRegistrar implements ImportBeanDefinitionRe
 		BeanDefinitionBuilder registryFactoryBeanBuilder = BeanDefinitionBuilder
 				.rootBeanDefinition(PluginRegistryFactoryBean.class);
 		registryFactoryBeanBuilder.addPropertyValue("type", RelProvider.class);
-		registryFactoryBeanBuilder.addPropertyValue("exclusions", DelegatingRelProvider.class);
+		registryFactoryBeanBuilder.addPropertyValue("exclusions", new Class<?>[] { DelegatingRelProvider.class,
+				CachingRelProvider.class });
 
 		AbstractBeanDefinition registryBeanDefinition = registryFactoryBeanBuilder.getBeanDefinition();
 		registry.registerBeanDefinition("relProviderPluginRegistry", registryBeanDefinition);
@@ -168,7 +180,13 @@ class HypermediaSupportBeanDefinitionRegistrar implements ImportBeanDefinitionRe
 		BeanDefinitionBuilder delegateBuilder = BeanDefinitionBuilder.rootBeanDefinition(DelegatingRelProvider.class);
 		delegateBuilder.addConstructorArgValue(registryBeanDefinition);
 
-		AbstractBeanDefinition beanDefinition = delegateBuilder.getBeanDefinition();
+		AbstractBeanDefinition delegateDefinition = delegateBuilder.getBeanDefinition();
+		registry.registerBeanDefinition(UNCACHED_REL_PROVIDER_BEAN_NAME, delegateDefinition);
+
+		BeanDefinitionBuilder cachingBuilder = BeanDefinitionBuilder.rootBeanDefinition(CachingRelProvider.class);
+		cachingBuilder.addConstructorArgReference(UNCACHED_REL_PROVIDER_BEAN_NAME);
+
+		AbstractBeanDefinition beanDefinition = cachingBuilder.getBeanDefinition();
 		beanDefinition.setPrimary(true);
 		registry.registerBeanDefinition(DELEGATING_REL_PROVIDER_BEAN_NAME, beanDefinition);
 	}
@@ -225,6 +243,7 @@ class HypermediaSupportBeanDefinitionRegistrar implements ImportBeanDefinitionRe
 		private CurieProvider curieProvider;
 		private RelProvider relProvider;
 		private ObjectMapper halObjectMapper;
+		private HypermediaMetrics metrics;
 
 		/* 
 		 * (non-Javadoc)
@@ -236,6 +255,9 @@ class HypermediaSupportBeanDefinitionRegistrar implements ImportBeanDefinitionRe
 			this.curieProvider = getCurieProvider(beanFactory);
 			this.relProvider = beanFactory.getBean(DELEGATING_REL_PROVIDER_BEAN_NAME, RelProvider.class);
 			this.halObjectMapper = beanFactory.getBean(HAL_OBJECT_MAPPER_BEAN_NAME, ObjectMapper.class);
+
+			HypermediaMetrics metrics = getHypermediaMetrics(beanFactory);
+			this.metrics = metrics == null ? HypermediaMetrics.NONE : metrics;
 		}
 
 		/* 
@@ -284,7 +306,7 @@ class HypermediaSupportBeanDefinitionRegistrar implements ImportBeanDefinitionRe
 				}
 			}
 
-			halObjectMapper.registerModule(new Jackson2HalModule());
+			halObjectMapper.registerModule(new Jackson2HalModule(metrics));
 			halObjectMapper.setHandlerInstantiator(new Jackson2HalModule.HalHandlerInstantiator(relProvider, curieProvider));
 
 			MappingJackson2HttpMessageConverter halConverter = new MappingJackson2HttpMessageConverter();
@@ -307,6 +329,60 @@ class HypermediaSupportBeanDefinitionRegistrar implements ImportBeanDefinitionRe
 		}
 	}
 
+	/**
+	 * Returns the {@link HypermediaMetrics} bean registered in the given {@link BeanFactory}.
+	 * 
+	 * @param factory must not be {@literal null}.
+	 * @return the {@link HypermediaMetrics} or {@literal null} if none is registered.
+	 * @throws NoUniqueBeanDefinitionException in case multiple {@link HypermediaMetrics} beans are registered.
+	 */
+	private static HypermediaMetrics getHypermediaMetrics(BeanFactory factory) {
+
+		try {
+			return factory.getBean(HypermediaMetrics.class);
+		} catch (NoUniqueBeanDefinitionException o_O) {
+			throw o_O;
+		} catch (NoSuchBeanDefinitionException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Registers the {@link HypermediaMetrics} bean of the {@link ApplicationContext} (if any) with the
+	 * {@link HypermediaMetricsHolder} for the link building API and unregisters it on shutdown.
+	 */
+	private static class HypermediaMetricsInstaller implements ApplicationContextAware, DisposableBean {
+
+		private ApplicationContext context;
+
+		/* 
+		 * (non-Javadoc)
+		 * @see org.springframework.context.ApplicationContextAware#setApplicationContext(org.springframework.context.ApplicationContext)
+		 */
+		@Override
+		public void setApplicationContext(ApplicationContext context) throws BeansException {
+
+			HypermediaMetrics metrics = getHypermediaMetrics(context);
+
+			if (metrics != null) {
+				this.context = context;
+				HypermediaMetricsHolder.register(context, metrics);
+			}
+		}
+
+		/* 
+		 * (non-Javadoc)
+		 * @see org.springframework.beans.factory.DisposableBean#destroy()
+		 */
+		@Override
+		public void destroy() {
+
+			if (context != null) {
+				HypermediaMetricsHolder.unregister(context);
+			}
+		}
+	}
+
 	/**
 	 * {@link BeanPostProcessor} to register the {@link Jackson1HalModule} with
 	 * {@link org.codehaus.jackson.map.ObjectMapper} beans registered in the {@link ApplicationContext}.
@@ -15,12 +15,12 @@
  */
 package org.springframework.hateoas.core;
 
-import java.util.HashMap;
 import java.util.Map;
 
 import org.springframework.core.annotation.AnnotationUtils;
 import org.springframework.core.annotation.Order;
 import org.springframework.hateoas.RelProvider;
+import org.springframework.util.ConcurrentReferenceHashMap;
 
 /**
  * @author Oliver Gierke
@@ -29,7 +29,9 @@ import org.springframework.hateoas.RelProvider;
 @Order(100)
 public class AnnotationRelProvider implements RelProvider {
 
-	private final Map<Class<?>, Relation> annotationCache = new HashMap<Class<?>, Relation>();
+	private static final Object NO_ANNOTATION = new Object();
+
+	private final Map<Class<?>, Object> annotationCache = new ConcurrentReferenceHashMap<Class<?>, Object>();
 
 	/*
 	 * (non-Javadoc)
@@ -72,20 +74,34 @@ public class AnnotationRelProvider implements RelProvider {
 		return lookupAnnotation(delimiter) != null;
 	}
 
+	/**
+	 * Returns the {@link Relation} annotation of the given type. Types without the annotation are cached as well so that
+	 * the common case of an unannotated type only costs a single cache lookup.
+	 * 
+	 * @param type must not be {@literal null}.
+	 * @return the {@link Relation} annotation or {@literal null} if the type is not annotated.
+	 */
 	private Relation lookupAnnotation(Class<?> type) {
 
-		Relation relation = annotationCache.get(type);
-
-		if (relation != null) {
-			return relation;
-		}
+		Object cached = annotationCache.get(type);
 
-		relation = AnnotationUtils.getAnnotation(type, Relation.class);
+		if (cached == null) {
 
-		if (relation != null) {
-			annotationCache.put(type, relation);
+			Relation relation = findAnnotation(type);
+			cached = relation == null ? NO_ANNOTATION : relation;
+			annotationCache.put(type, cached);
 		}
 
-		return relation;
+		return cached == NO_ANNOTATION ? null : (Relation) cached;
+	}
+
+	/**
+	 * Looks up the {@link Relation} annotation on the given type. Only invoked if there's no cached result for the type.
+	 * 
+	 * @param type must not be {@literal null}.
+	 * @return the {@link Relation} annotation or {@literal null} if the type is not annotated.
+	 */
+	Relation findAnnotation(Class<?> type) {
+		return AnnotationUtils.getAnnotation(type, Relation.class);
 	}
 }
@@ -0,0 +1,149 @@
+/*
+ * Copyright 2014 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.core;
+
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentReferenceHashMap;
+
+/**
+ * {@link MappingDiscoverer} decorator caching the mappings resolved by the delegate per type and {@link Method}.
+ * Mappings are considered static once the application has started, so that annotation lookups only happen on first
+ * access. Use {@link #invalidate()} or {@link #invalidateAll()} to drop cached mappings, e.g. in case classes get
+ * reloaded during development.
+ * 
+ * @since 0.10
+ */
+public class CachingMappingDiscoverer implements MappingDiscoverer {
+
+	private static final AtomicInteger GENERATION = new AtomicInteger();
+
+	private final MappingDiscoverer delegate;
+	private final Map<AnnotatedElement, CachedMapping> mappings;
+	private final AtomicInteger localGeneration;
+
+	/**
+	 * Creates a new {@link CachingMappingDiscoverer} for the given delegate {@link MappingDiscoverer}.
+	 * 
+	 * @param delegate must not be {@literal null}.
+	 */
+	public CachingMappingDiscoverer(MappingDiscoverer delegate) {
+
+		Assert.notNull(delegate, "Delegate MappingDiscoverer must not be null!");
+
+		this.delegate = delegate;
+		this.mappings = new ConcurrentReferenceHashMap<AnnotatedElement, CachedMapping>();
+		this.localGeneration = new AtomicInteger();
+	}
+
+	/**
+	 * Invalidates the caches of all {@link CachingMappingDiscoverer} instances.
+	 */
+	public static void invalidateAll() {
+		GENERATION.incrementAndGet();
+	}
+
+	/**
+	 * Invalidates all mappings cached by the current instance.
+	 */
+	public void invalidate() {
+
+		this.localGeneration.incrementAndGet();
+		this.mappings.clear();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.hateoas.core.MappingDiscoverer#getMapping(java.lang.Class)
+	 */
+	@Override
+	public String getMapping(Class<?> type) {
+
+		long generation = getGeneration();
+		CachedMapping mapping = lookup(type, generation);
+
+		if (mapping == null) {
+			mapping = cache(type, delegate.getMapping(type), generation);
+		}
+
+		return mapping.value;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.hateoas.core.MappingDiscoverer#getMapping(java.lang.reflect.Method)
+	 */
+	@Override
+	public String getMapping(Method method) {
+
+		long generation = getGeneration();
+		CachedMapping mapping = lookup(method, generation);
+
+		if (mapping == null) {
+			mapping = cache(method, delegate.getMapping(method), generation);
+		}
+
+		return mapping.value;
+	}
+
+	/**
+	 * Returns the current generation of the cache, combining global and local invalidations. It has to be obtained
+	 * before resolving a mapping so that a mapping resolved concurrently to an invalidation is never considered valid.
+	 * 
+	 * @return
+	 */
+	private long getGeneration() {
+		return (long) GENERATION.get() << 32 | localGeneration.get() & 0xFFFFFFFFL;
+	}
+
+	/**
+	 * Returns the mapping cached for the given element in case it was resolved in the given generation.
+	 * 
+	 * @param element must not be {@literal null}.
+	 * @param generation the current generation.
+	 * @return the cached mapping or {@literal null} if nothing valid was cached yet.
+	 */
+	private CachedMapping lookup(AnnotatedElement element, long generation) {
+
+		CachedMapping mapping = mappings.get(element);
+		return mapping == null || mapping.generation != generation ? null : mapping;
+	}
+
+	private CachedMapping cache(AnnotatedElement element, String mapping, long generation) {
+
+		CachedMapping value = new CachedMapping(mapping, generation);
+		mappings.put(element, value);
+		return value;
+	}
+
+	/**
+	 * A mapping (potentially {@literal null}) along with the generation of the cache it was resolved in.
+	 */
+	private static class CachedMapping {
+
+		private final String value;
+		private final long generation;
+
+		public CachedMapping(String value, long generation) {
+			this.value = value;
+			this.generation = generation;
+		}
+	}
+}
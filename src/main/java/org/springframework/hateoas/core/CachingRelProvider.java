@@ -0,0 +1,102 @@
+/*
+ * Copyright 2014 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.core;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.hateoas.RelProvider;
+import org.springframework.util.Assert;
+
+/**
+ * {@link RelProvider} decorator caching the item and collection relation types resolved by the delegate per type. Rels
+ * are considered static once the application has started, so that plugin selection and rel calculation only happen on
+ * first access.
+ * 
+ * @since 0.10
+ */
+public class CachingRelProvider implements RelProvider {
+
+	private final RelProvider delegate;
+	private final Map<Class<?>, Rels> rels;
+
+	/**
+	 * Creates a new {@link CachingRelProvider} for the given delegate {@link RelProvider}.
+	 * 
+	 * @param delegate must not be {@literal null}.
+	 */
+	public CachingRelProvider(RelProvider delegate) {
+
+		Assert.notNull(delegate, "Delegate RelProvider must not be null!");
+
+		this.delegate = delegate;
+		this.rels = new ConcurrentHashMap<Class<?>, Rels>();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.hateoas.RelProvider#getItemResourceRelFor(java.lang.Class)
+	 */
+	@Override
+	public String getItemResourceRelFor(Class<?> type) {
+		return getRels(type).itemRel;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.hateoas.RelProvider#getCollectionResourceRelFor(java.lang.Class)
+	 */
+	@Override
+	public String getCollectionResourceRelFor(Class<?> type) {
+		return getRels(type).collectionRel;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.plugin.core.Plugin#supports(java.lang.Object)
+	 */
+	@Override
+	public boolean supports(Class<?> delimiter) {
+		return delegate.supports(delimiter);
+	}
+
+	private Rels getRels(Class<?> type) {
+
+		Rels result = rels.get(type);
+
+		if (result == null) {
+			result = new Rels(delegate.getItemResourceRelFor(type), delegate.getCollectionResourceRelFor(type));
+			rels.put(type, result);
+		}
+
+		return result;
+	}
+
+	/**
+	 * Value object for the item and collection relation type of a type. Both can be {@literal null}.
+	 */
+	private static final class Rels {
+
+		private final String itemRel;
+		private final String collectionRel;
+
+		public Rels(String itemRel, String collectionRel) {
+
+			this.itemRel = itemRel;
+			this.collectionRel = collectionRel;
+		}
+	}
+}
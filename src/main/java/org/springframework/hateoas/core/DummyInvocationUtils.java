@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2013 the original author or authors.
+ * Copyright 2012-2014 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -18,16 +18,16 @@ package org.springframework.hateoas.core;
 import java.lang.reflect.Method;
 import java.util.Arrays;
 import java.util.Iterator;
+import java.util.Map;
 
-import org.aopalliance.intercept.MethodInterceptor;
 import org.objenesis.ObjenesisStd;
-import org.springframework.aop.framework.ProxyFactory;
-import org.springframework.aop.target.EmptyTargetSource;
 import org.springframework.cglib.proxy.Callback;
 import org.springframework.cglib.proxy.Enhancer;
 import org.springframework.cglib.proxy.Factory;
+import org.springframework.cglib.proxy.MethodInterceptor;
 import org.springframework.cglib.proxy.MethodProxy;
 import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentReferenceHashMap;
 import org.springframework.util.ReflectionUtils;
 
 /**
@@ -37,7 +37,19 @@ import org.springframework.util.ReflectionUtils;
  */
 public class DummyInvocationUtils {
 
-	private static ObjenesisStd OBJENESIS = new ObjenesisStd();
+	private static final ObjenesisStd OBJENESIS = new ObjenesisStd(true);
+
+	/**
+	 * Upper bound for the number of proxy classes held in {@link #PROXY_CLASSES}. Types beyond that limit still get
+	 * proxied but their proxy class will not be cached.
+	 */
+	private static final int PROXY_CLASS_CACHE_LIMIT = 256;
+
+	/**
+	 * Cache of the generated proxy classes keyed by the proxied type. Backed by soft references so that cached classes
+	 * don't prevent class loaders from being garbage collected.
+	 */
+	private static final Map<Class<?>, Class<?>> PROXY_CLASSES = new ConcurrentReferenceHashMap<Class<?>, Class<?>>();
 
 	public interface LastInvocationAware {
 
@@ -52,8 +64,7 @@ public class DummyInvocationUtils {
 	 * 
 	 * @author Oliver Gierke
 	 */
-	private static class InvocationRecordingMethodInterceptor implements MethodInterceptor, LastInvocationAware,
-			org.springframework.cglib.proxy.MethodInterceptor {
+	private static class InvocationRecordingMethodInterceptor implements MethodInterceptor, LastInvocationAware {
 
 		private static final Method GET_INVOCATIONS;
 		private static final Method GET_OBJECT_PARAMETERS;
@@ -80,14 +91,14 @@ public class DummyInvocationUtils {
 		 * (non-Javadoc)
 		 * @see org.springframework.cglib.proxy.MethodInterceptor#intercept(java.lang.Object, java.lang.reflect.Method, java.lang.Object[], org.springframework.cglib.proxy.MethodProxy)
 		 */
-		public Object intercept(Object obj, Method method, Object[] args, MethodProxy proxy) {
+		public Object intercept(Object obj, Method method, Object[] args, MethodProxy proxy) throws Throwable {
 
 			if (GET_INVOCATIONS.equals(method)) {
 				return getLastInvocation();
 			} else if (GET_OBJECT_PARAMETERS.equals(method)) {
 				return getObjectParameters();
 			} else if (Object.class.equals(method.getDeclaringClass())) {
-				return ReflectionUtils.invokeMethod(method, obj, args);
+				return proxy.invokeSuper(obj, args);
 			}
 
 			this.invocation = new SimpleMethodInvocation(method, args);
@@ -96,15 +107,6 @@ public class DummyInvocationUtils {
 			return returnType.cast(getProxyWithInterceptor(returnType, this));
 		}
 
-		/* 
-		 * (non-Javadoc)
-		 * @see org.aopalliance.intercept.MethodInterceptor#invoke(org.aopalliance.intercept.MethodInvocation)
-		 */
-		@Override
-		public Object invoke(org.aopalliance.intercept.MethodInvocation invocation) throws Throwable {
-			return intercept(invocation.getThis(), invocation.getMethod(), invocation.getArguments(), null);
-		}
-
 		/*
 		 * (non-Javadoc)
 		 * @see org.springframework.hateoas.core.DummyInvocationUtils.LastInvocationAware#getLastInvocation()
@@ -125,8 +127,7 @@ public class DummyInvocationUtils {
 	}
 
 	/**
-	 * Returns a proxy of the given type, backed by an {@link EmptyTargetSource} to simply drop method invocations but
-	 * equips it with an {@link InvocationRecordingMethodInterceptor}. The interceptor records the last invocation and
+	 * Returns a proxy of the given type, simply dropping method invocations but equipping it with an {@link InvocationRecordingMethodInterceptor}. The interceptor records the last invocation and
 	 * returns a proxy of the return type that also implements {@link LastInvocationAware} so that the last method
 	 * invocation can be inspected. Parameters passed to the subsequent method invocation are generally neglected except
 	 * the ones that might be mapped into the URI translation eventually, e.g. {@linke PathVariable} in the case of Spring
@@ -144,27 +145,66 @@ public class DummyInvocationUtils {
 		return getProxyWithInterceptor(type, interceptor);
 	}
 
+	/**
+	 * Creates a new proxy instance for the given type equipped with the given interceptor. The proxy class is only
+	 * generated on first access and cached for subsequent invocations so that each call only instantiates the cached
+	 * class and attaches a fresh interceptor.
+	 * 
+	 * @param type must not be {@literal null}.
+	 * @param interceptor must not be {@literal null}.
+	 * @return
+	 */
 	@SuppressWarnings("unchecked")
 	private static <T> T getProxyWithInterceptor(Class<?> type, InvocationRecordingMethodInterceptor interceptor) {
 
-		if (type.isInterface()) {
+		Factory factory = (Factory) OBJENESIS.newInstance(getProxyClass(type));
+		factory.setCallbacks(new Callback[] { interceptor });
+		return (T) factory;
+	}
 
-			ProxyFactory factory = new ProxyFactory(EmptyTargetSource.INSTANCE);
-			factory.addInterface(type);
-			factory.addInterface(LastInvocationAware.class);
-			factory.addAdvice(interceptor);
+	/**
+	 * Returns the proxy class for the given type, either from the cache or by generating it.
+	 * 
+	 * @param type must not be {@literal null}.
+	 * @return
+	 */
+	private static Class<?> getProxyClass(Class<?> type) {
+
+		Class<?> proxyClass = PROXY_CLASSES.get(type);
 
-			return (T) factory.getProxy();
+		if (proxyClass != null) {
+			return proxyClass;
 		}
 
+		proxyClass = createProxyClass(type);
+
+		if (PROXY_CLASSES.size() < PROXY_CLASS_CACHE_LIMIT) {
+			PROXY_CLASSES.put(type, proxyClass);
+		}
+
+		return proxyClass;
+	}
+
+	/**
+	 * Generates a CGLib proxy class for the given type that additionally implements {@link LastInvocationAware}.
+	 * Interfaces are implemented by a proxy extending {@link Object}, classes get sub-classed.
+	 * 
+	 * @param type must not be {@literal null}.
+	 * @return
+	 */
+	private static Class<?> createProxyClass(Class<?> type) {
+
 		Enhancer enhancer = new Enhancer();
-		enhancer.setSuperclass(type);
-		enhancer.setInterfaces(new Class<?>[] { LastInvocationAware.class });
-		enhancer.setCallbackType(org.springframework.cglib.proxy.MethodInterceptor.class);
 
-		Factory factory = (Factory) OBJENESIS.newInstance(enhancer.createClass());
-		factory.setCallbacks(new Callback[] { interceptor });
-		return (T) factory;
+		if (type.isInterface()) {
+			enhancer.setInterfaces(new Class<?>[] { type, LastInvocationAware.class });
+		} else {
+			enhancer.setSuperclass(type);
+			enhancer.setInterfaces(new Class<?>[] { LastInvocationAware.class });
+		}
+
+		enhancer.setCallbackType(MethodInterceptor.class);
+		return enhancer.createClass();
 	}
 
 	public interface MethodInvocation {
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2014 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.core;
+
+/**
+ * SPI to collect metrics about hypermedia generation, i.e. how long link building and HAL rendering take and how many
+ * links and embedded resources are rendered. Implementations usually adapt a metrics library and are picked up from the
+ * {@link org.springframework.context.ApplicationContext} when hypermedia support is enabled. By default, no metrics are
+ * collected at all (see {@link #NONE}).
+ * 
+ * @see HypermediaMetricsHolder
+ * @see org.springframework.hateoas.hal.Jackson2HalModule#Jackson2HalModule(HypermediaMetrics)
+ * @since 0.10
+ */
+public interface HypermediaMetrics {
+
+	/**
+	 * {@link HypermediaMetrics} that do not record anything.
+	 */
+	public static final HypermediaMetrics NONE = new HypermediaMetrics() {
+
+		private final Sample noSample = new Sample() {
+
+			@Override
+			public void stop() {}
+		};
+
+		@Override
+		public Sample start(Operation operation) {
+			return noSample;
+		}
+
+		@Override
+		public void recordLinks(int count) {}
+
+		@Override
+		public void recordEmbedded(String rel, int count) {}
+	};
+
+	/**
+	 * Starts timing the given {@link Operation}. The returned {@link Sample} has to be stopped once the operation has
+	 * finished.
+	 * 
+	 * @param operation will never be {@literal null}.
+	 * @return must not be {@literal null}.
+	 */
+	Sample start(Operation operation);
+
+	/**
+	 * Records the number of links rendered as part of a top-level HAL representation, i.e. a single
+	 * {@link Operation#RENDER} operation. Includes the links of all nested representations.
+	 * 
+	 * @param count
+	 */
+	void recordLinks(int count);
+
+	/**
+	 * Records the number of resources embedded into a top-level HAL representation for the given relation type. Resources
+	 * embedded in nested representations are not recorded.
+	 * 
+	 * @param rel will never be {@literal null}.
+	 * @param count
+	 */
+	void recordEmbedded(String rel, int count);
+
+	/**
+	 * The operations being timed.
+	 */
+	public enum Operation {
+
+		/**
+		 * Building a link to a controller method invocation.
+		 */
+		LINK_TO,
+
+		/**
+		 * Looking up the base URI of the current request.
+		 */
+		BASE_URI,
+
+		/**
+		 * Rendering a top-level HAL representation, including its links and all embedded resources. Nested
+		 * representations are not timed separately.
+		 */
+		RENDER;
+	}
+
+	/**
+	 * A running timing of an {@link Operation}.
+	 */
+	public interface Sample {
+
+		/**
+		 * Stops the timing and records the elapsed time.
+		 */
+		void stop();
+	}
+}
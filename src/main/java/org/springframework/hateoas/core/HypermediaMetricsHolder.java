@@ -0,0 +1,108 @@
+/*
+ * Copyright 2014 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.core;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.context.ApplicationContext;
+import org.springframework.util.Assert;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.servlet.DispatcherServlet;
+
+/**
+ * Holder exposing the {@link HypermediaMetrics} registered for an {@link ApplicationContext} to the static link
+ * building API. The metrics to use are looked up for the {@link ApplicationContext} serving the current request (or
+ * one of its parents), so that multiple contexts within the same class loader don't see each other's metrics. Defaults
+ * to {@link HypermediaMetrics#NONE}.
+ * 
+ * @since 0.10
+ */
+public abstract class HypermediaMetricsHolder {
+
+	private static final Map<ApplicationContext, HypermediaMetrics> METRICS = new ConcurrentHashMap<ApplicationContext, HypermediaMetrics>();
+
+	/**
+	 * Returns the {@link HypermediaMetrics} registered for the {@link ApplicationContext} serving the current request.
+	 * 
+	 * @return will never be {@literal null}.
+	 */
+	public static HypermediaMetrics getMetrics() {
+
+		if (METRICS.isEmpty()) {
+			return HypermediaMetrics.NONE;
+		}
+
+		RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+
+		if (attributes == null) {
+			return HypermediaMetrics.NONE;
+		}
+
+		Object context = attributes.getAttribute(DispatcherServlet.WEB_APPLICATION_CONTEXT_ATTRIBUTE,
+				RequestAttributes.SCOPE_REQUEST);
+
+		return context instanceof ApplicationContext ? getMetrics((ApplicationContext) context)
+				: HypermediaMetrics.NONE;
+	}
+
+	/**
+	 * Returns the {@link HypermediaMetrics} registered for the given {@link ApplicationContext} or the closest of its
+	 * parents.
+	 * 
+	 * @param context can be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	public static HypermediaMetrics getMetrics(ApplicationContext context) {
+
+		for (ApplicationContext current = context; current != null; current = current.getParent()) {
+
+			HypermediaMetrics metrics = METRICS.get(current);
+
+			if (metrics != null) {
+				return metrics;
+			}
+		}
+
+		return HypermediaMetrics.NONE;
+	}
+
+	/**
+	 * Registers the given {@link HypermediaMetrics} for the given {@link ApplicationContext}.
+	 * 
+	 * @param context must not be {@literal null}.
+	 * @param metrics must not be {@literal null}.
+	 */
+	public static void register(ApplicationContext context, HypermediaMetrics metrics) {
+
+		Assert.notNull(context, "ApplicationContext must not be null!");
+		Assert.notNull(metrics, "HypermediaMetrics must not be null!");
+
+		METRICS.put(context, metrics);
+	}
+
+	/**
+	 * Removes the {@link HypermediaMetrics} registered for the given {@link ApplicationContext}.
+	 * 
+	 * @param context must not be {@literal null}.
+	 */
+	public static void unregister(ApplicationContext context) {
+
+		Assert.notNull(context, "ApplicationContext must not be null!");
+		METRICS.remove(context);
+	}
+}
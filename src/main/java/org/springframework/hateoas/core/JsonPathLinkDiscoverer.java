@@ -21,27 +21,40 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import net.minidev.json.JSONArray;
 
 import org.springframework.hateoas.Link;
 import org.springframework.hateoas.LinkDiscoverer;
+import org.springframework.hateoas.Links;
+import org.springframework.hateoas.MultiRelLinkDiscoverer;
 import org.springframework.http.MediaType;
 import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentReferenceHashMap;
 import org.springframework.util.StringUtils;
 
 import com.jayway.jsonpath.InvalidPathException;
 import com.jayway.jsonpath.JsonPath;
+import com.jayway.jsonpath.spi.JsonProviderFactory;
 
 /**
  * {@link LinkDiscoverer} that uses {@link JsonPath} to find links inside a representation.
  * 
  * @author Oliver Gierke
  */
-public class JsonPathLinkDiscoverer implements LinkDiscoverer {
+public class JsonPathLinkDiscoverer implements MultiRelLinkDiscoverer {
+
+	/**
+	 * Upper bound for the number of compiled expressions held per instance. Relation types beyond that limit still get
+	 * their expression compiled but will not be cached.
+	 */
+	private static final int CACHE_LIMIT = 256;
 
 	private final String pathTemplate;
 	private final MediaType mediaType;
+	private final Map<String, JsonPath> expressions = new ConcurrentReferenceHashMap<String, JsonPath>();
 
 	/**
 	 * Creates a new {@link JsonPathLinkDiscoverer} using the given path template supporting the given {@link MediaType}.
@@ -84,7 +97,7 @@ public class JsonPathLinkDiscoverer implements LinkDiscoverer {
 
 	/* 
 	 * (non-Javadoc)
-	 * @see org.springframework.hateoas.LinkDiscoverer#findLinksWithRel(java.lang.String, java.lang.String)
+	 * @see org.springframework.hateoas.MultiRelLinkDiscoverer#findLinksWithRel(java.lang.String, java.lang.String)
 	 */
 	@Override
 	public List<Link> findLinksWithRel(String rel, String representation) {
@@ -99,7 +112,7 @@ public class JsonPathLinkDiscoverer implements LinkDiscoverer {
 
 	/* 
 	 * (non-Javadoc)
-	 * @see org.springframework.hateoas.LinkDiscoverer#findLinksWithRel(java.lang.String, java.io.InputStream)
+	 * @see org.springframework.hateoas.MultiRelLinkDiscoverer#findLinksWithRel(java.lang.String, java.io.InputStream)
 	 */
 	@Override
 	public List<Link> findLinksWithRel(String rel, InputStream representation) {
@@ -112,14 +125,88 @@ public class JsonPathLinkDiscoverer implements LinkDiscoverer {
 		}
 	}
 
+	/* 
+	 * (non-Javadoc)
+	 * @see org.springframework.hateoas.MultiRelLinkDiscoverer#findLinks(java.util.Set, java.lang.String)
+	 */
+	@Override
+	public Links findLinks(Set<String> rels, String representation) {
+
+		Assert.notNull(representation, "Representation must not be null!");
+		return findLinks(rels, JsonProviderFactory.createProvider().parse(representation));
+	}
+
+	/* 
+	 * (non-Javadoc)
+	 * @see org.springframework.hateoas.MultiRelLinkDiscoverer#findLinks(java.util.Set, java.io.InputStream)
+	 */
+	@Override
+	public Links findLinks(Set<String> rels, InputStream representation) {
+
+		Assert.notNull(representation, "Representation must not be null!");
+		return findLinks(rels, JsonProviderFactory.createProvider().parse(representation));
+	}
+
+	/**
+	 * Evaluates the expressions for all given relation types against the given, already parsed document.
+	 * 
+	 * @param rels can be {@literal null}.
+	 * @param document must not be {@literal null}.
+	 * @return
+	 */
+	private Links findLinks(Set<String> rels, Object document) {
+
+		if (rels == null || rels.isEmpty()) {
+			return findAllLinks(document);
+		}
+
+		List<Link> links = new ArrayList<Link>();
+
+		for (String rel : rels) {
+			try {
+				links.addAll(createLinksFrom(getExpression(rel).read(document), rel));
+			} catch (InvalidPathException e) {
+				// no links for the current relation type
+			}
+		}
+
+		return new Links(links);
+	}
+
 	/**
-	 * Returns the {@link JsonPath} to find links with the given relation type.
+	 * Returns the links of all relation types contained in the given, already parsed document. The path template
+	 * doesn't allow to find out about the relation types available, so no links are returned by default. Subclasses
+	 * knowing about the structure of the document can override this method to support looking up all links.
+	 * 
+	 * @param document the document as parsed by json-path, will never be {@literal null}.
+	 * @return empty {@link Links} by default, must not be {@literal null}.
+	 * @since 0.10
+	 */
+	protected Links findAllLinks(Object document) {
+		return new Links();
+	}
+
+	/**
+	 * Returns the {@link JsonPath} to find links with the given relation type. Compiled expressions are cached per
+	 * relation type.
 	 * 
 	 * @param rel
 	 * @return
 	 */
 	private JsonPath getExpression(String rel) {
-		return JsonPath.compile(String.format(pathTemplate, rel));
+
+		JsonPath expression = expressions.get(rel);
+
+		if (expression == null) {
+
+			expression = JsonPath.compile(String.format(pathTemplate, rel));
+
+			if (expressions.size() < CACHE_LIMIT) {
+				expressions.put(rel, expression);
+			}
+		}
+
+		return expression;
 	}
 
 	/**
@@ -16,14 +16,17 @@
 package org.springframework.hateoas.core;
 
 import java.net.URI;
+import java.util.Map;
 
 import org.springframework.hateoas.Identifiable;
 import org.springframework.hateoas.Link;
 import org.springframework.hateoas.LinkBuilder;
 import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentReferenceHashMap;
 import org.springframework.util.StringUtils;
 import org.springframework.web.util.UriComponents;
 import org.springframework.web.util.UriComponentsBuilder;
+import org.springframework.web.util.UriTemplate;
 
 /**
  * Base class to implement {@link LinkBuilder}s based on a Spring MVC {@link UriComponentsBuilder}.
@@ -33,6 +36,13 @@ import org.springframework.web.util.UriComponentsBuilder;
  */
 public abstract class LinkBuilderSupport<T extends LinkBuilder> implements LinkBuilder {
 
+	/**
+	 * Upper bound for the number of parsed mappings held in {@link #TEMPLATES}. Mappings beyond that limit still get
+	 * parsed but will not be cached.
+	 */
+	private static final int TEMPLATE_CACHE_LIMIT = 1024;
+	private static final Map<String, UriTemplate> TEMPLATES = new ConcurrentReferenceHashMap<String, UriTemplate>();
+
 	private final UriComponents uriComponents;
 
 	/**
@@ -46,6 +56,29 @@ public abstract class LinkBuilderSupport<T extends LinkBuilder> implements LinkB
 		this.uriComponents = builder.build();
 	}
 
+	/**
+	 * Returns the {@link UriTemplate} for the given mapping, parsing it only on first access.
+	 * 
+	 * @param mapping must not be {@literal null}.
+	 * @return
+	 * @since 0.10
+	 */
+	protected static UriTemplate getTemplate(String mapping) {
+
+		UriTemplate template = TEMPLATES.get(mapping);
+
+		if (template == null) {
+
+			template = new UriTemplate(mapping);
+
+			if (TEMPLATES.size() < TEMPLATE_CACHE_LIMIT) {
+				TEMPLATES.put(mapping, template);
+			}
+		}
+
+		return template;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.hateoas.LinkBuilder#slash(java.lang.Object)
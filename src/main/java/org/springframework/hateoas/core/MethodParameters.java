@@ -18,23 +18,31 @@ package org.springframework.hateoas.core;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.springframework.beans.BeanUtils;
 import org.springframework.core.LocalVariableTableParameterNameDiscoverer;
 import org.springframework.core.MethodParameter;
 import org.springframework.core.ParameterNameDiscoverer;
+import org.springframework.core.convert.TypeDescriptor;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
+import org.springframework.util.ConcurrentReferenceHashMap;
 
 /**
- * Value object to represent {@link MethodParameters} to allow to easily find the ones with a given annotation.
+ * Value object to represent {@link MethodParameters} to allow to easily find the ones with a given annotation. Use
+ * {@link #of(Method)} to obtain a shared, fully resolved instance instead of re-inspecting the {@link Method} for
+ * every invocation.
  * 
  * @author Oliver Gierke
  */
 public class MethodParameters {
 
 	private static final String SPRING_4_DISCOVERER_NAME = "org.springframework.core.DefaultParameterNameDiscoverer";
+	private static final Map<Method, MethodParameters> CACHE = new ConcurrentReferenceHashMap<Method, MethodParameters>();
 	private static ParameterNameDiscoverer DISCOVERER;
 
 	static {
@@ -50,6 +58,8 @@ public class MethodParameters {
 	}
 
 	private final List<MethodParameter> parameters;
+	private final List<TypeDescriptor> typeDescriptors;
+	private final Map<Class<? extends Annotation>, List<MethodParameter>> parametersWithAnnotation;
 
 	/**
 	 * Creates a new {@link MethodParameters} from the given {@link Method}.
@@ -70,18 +80,54 @@ public class MethodParameters {
 	public MethodParameters(Method method, AnnotationAttribute namingAnnotation) {
 
 		Assert.notNull(method);
-		this.parameters = new ArrayList<MethodParameter>();
 
-		for (int i = 0; i < method.getParameterTypes().length; i++) {
+		int numberOfParameters = method.getParameterTypes().length;
+		List<MethodParameter> parameters = new ArrayList<MethodParameter>(numberOfParameters);
+		List<TypeDescriptor> typeDescriptors = new ArrayList<TypeDescriptor>(numberOfParameters);
+
+		for (int i = 0; i < numberOfParameters; i++) {
 
 			MethodParameter parameter = new AnnotationNamingMethodParameter(method, i, namingAnnotation);
 			parameter.initParameterNameDiscovery(DISCOVERER);
+
+			// Resolve name eagerly so that the instance can be shared across threads
+			parameter.getParameterName();
+
 			parameters.add(parameter);
+			typeDescriptors.add(TypeDescriptor.nested(parameter, 0));
 		}
+
+		this.parameters = Collections.unmodifiableList(parameters);
+		this.typeDescriptors = Collections.unmodifiableList(typeDescriptors);
+		this.parametersWithAnnotation = new ConcurrentHashMap<Class<? extends Annotation>, List<MethodParameter>>();
 	}
 
 	/**
-	 * Returns all {@link MethodParameter}s.
+	 * Returns the {@link MethodParameters} for the given {@link Method}. Instances are resolved once per {@link Method}
+	 * and shared afterwards.
+	 * 
+	 * @param method must not be {@literal null}.
+	 * @return
+	 * @since 0.10
+	 */
+	public static MethodParameters of(Method method) {
+
+		Assert.notNull(method, "Method must not be null!");
+
+		MethodParameters parameters = CACHE.get(method);
+
+		if (parameters == null) {
+			parameters = new MethodParameters(method);
+			CACHE.put(method, parameters);
+		}
+
+		return parameters;
+	}
+
+	/**
+	 * Returns all {@link MethodParameter}s. Instances obtained through {@link #of(Method)} are shared across threads, so
+	 * the returned {@link MethodParameter}s must be treated as read-only. Use {@link #copyOf(MethodParameter)} before
+	 * handing them to third-party code.
 	 * 
 	 * @return
 	 */
@@ -138,17 +184,65 @@ public class MethodParameters {
 	public List<MethodParameter> getParametersWith(Class<? extends Annotation> annotation) {
 
 		Assert.notNull(annotation);
-		List<MethodParameter> result = new ArrayList<MethodParameter>();
+
+		List<MethodParameter> result = parametersWithAnnotation.get(annotation);
+
+		if (result != null) {
+			return result;
+		}
+
+		List<MethodParameter> parameters = new ArrayList<MethodParameter>();
 
 		for (MethodParameter parameter : getParameters()) {
 			if (parameter.hasParameterAnnotation(annotation)) {
-				result.add(parameter);
+				parameters.add(parameter);
 			}
 		}
 
+		result = Collections.unmodifiableList(parameters);
+		parametersWithAnnotation.put(annotation, result);
+
 		return result;
 	}
 
+	/**
+	 * Returns the {@link TypeDescriptor} for the given {@link MethodParameter}.
+	 * 
+	 * @param parameter must not be {@literal null} and be one of the current {@link MethodParameters}.
+	 * @return
+	 * @since 0.10
+	 */
+	public TypeDescriptor getTypeDescriptor(MethodParameter parameter) {
+
+		Assert.notNull(parameter, "MethodParameter must not be null!");
+
+		int index = parameter.getParameterIndex();
+
+		Assert.isTrue(index >= 0 && index < parameters.size() && parameters.get(index) == parameter,
+				"MethodParameter is not part of the current MethodParameters!");
+
+		return typeDescriptors.get(index);
+	}
+
+	/**
+	 * Returns an independent copy of the given {@link MethodParameter}, keeping a potentially annotation based parameter
+	 * name.
+	 * 
+	 * @param parameter must not be {@literal null}.
+	 * @return
+	 * @since 0.10
+	 */
+	public static MethodParameter copyOf(MethodParameter parameter) {
+
+		Assert.notNull(parameter, "MethodParameter must not be null!");
+
+		if (parameter instanceof AnnotationNamingMethodParameter) {
+			return new AnnotationNamingMethodParameter((AnnotationNamingMethodParameter) parameter);
+		}
+
+		return new MethodParameter(parameter);
+	}
+
 	/**
 	 * Custom {@link MethodParameter} extension that will favor the name configured in the {@link AnnotationAttribute} if
 	 * set over discovering it.
@@ -175,6 +269,18 @@ public class MethodParameters {
 
 		}
 
+		/**
+		 * Copy constructor, creating an independent {@link AnnotationNamingMethodParameter} from the given one.
+		 * 
+		 * @param original must not be {@literal null}.
+		 */
+		public AnnotationNamingMethodParameter(AnnotationNamingMethodParameter original) {
+
+			super(original);
+			this.attribute = original.attribute;
+			this.name = original.name;
+		}
+
 		/* 
 		 * (non-Javadoc)
 		 * @see org.springframework.core.MethodParameter#getParameterName()
@@ -0,0 +1,131 @@
+/*
+ * Copyright 2014 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.core;
+
+import java.util.AbstractCollection;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+
+import org.springframework.util.Assert;
+
+/**
+ * Read-only {@link java.util.Collection} view on an {@link Iterator} that allows its elements to be traversed exactly
+ * once without ever being held in memory. {@link #isEmpty()} does not consume any element. {@link #size()} has to read
+ * all remaining elements of the {@link Iterator} to determine the size and thus buffers them until they are traversed,
+ * so avoid calling it on large sources.
+ * 
+ * @since 0.10
+ */
+public class StreamingCollection<T> extends AbstractCollection<T> {
+
+	private final Iterator<? extends T> iterator;
+	private final List<T> buffer = new LinkedList<T>();
+	private int traversed = 0;
+	private boolean consumed = false;
+
+	/**
+	 * Creates a new {@link StreamingCollection} for the given {@link Iterator}.
+	 * 
+	 * @param iterator must not be {@literal null}.
+	 */
+	public StreamingCollection(Iterator<? extends T> iterator) {
+
+		Assert.notNull(iterator, "Iterator must not be null!");
+		this.iterator = iterator;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.util.AbstractCollection#iterator()
+	 */
+	@Override
+	public synchronized Iterator<T> iterator() {
+
+		Assert.state(!consumed, "StreamingCollection can only be iterated once!");
+		consumed = true;
+
+		return new Iterator<T>() {
+
+			@Override
+			public boolean hasNext() {
+
+				synchronized (StreamingCollection.this) {
+					return !buffer.isEmpty() || iterator.hasNext();
+				}
+			}
+
+			@Override
+			public T next() {
+
+				synchronized (StreamingCollection.this) {
+
+					T next = buffer.isEmpty() ? iterator.next() : buffer.remove(0);
+					traversed++;
+
+					return next;
+				}
+			}
+
+			@Override
+			public void remove() {
+				throw new UnsupportedOperationException();
+			}
+		};
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.util.AbstractCollection#isEmpty()
+	 */
+	@Override
+	public synchronized boolean isEmpty() {
+		return traversed == 0 && buffer.isEmpty() && !iterator.hasNext();
+	}
+
+	/**
+	 * Returns the number of elements of the {@link StreamingCollection}. Reads all elements not traversed yet from the
+	 * underlying {@link Iterator} and buffers them until they are traversed.
+	 * 
+	 * @return
+	 */
+	@Override
+	public synchronized int size() {
+
+		while (iterator.hasNext()) {
+			buffer.add(iterator.next());
+		}
+
+		return traversed + buffer.size();
+	}
+	/**
+	 * Returns whether the {@link StreamingCollection} has already been iterated.
+	 * 
+	 * @return
+	 */
+	public boolean isConsumed() {
+		return consumed;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.util.AbstractCollection#toString()
+	 */
+	@Override
+	public String toString() {
+		return consumed ? "[consumed]" : "[streaming]";
+	}
+}
@@ -86,6 +86,19 @@ class HalEmbeddedBuilder {
 	}
 
 	private String getDefaultedRelFor(Class<?> type, boolean forCollection) {
+		return getDefaultedRelFor(provider, type, forCollection);
+	}
+
+	/**
+	 * Returns the relation type to be used for the given type using the given {@link RelProvider}. Falls back to
+	 * {@value #DEFAULT_REL} if no {@link RelProvider} is given or it doesn't return a relation type.
+	 * 
+	 * @param provider can be {@literal null}.
+	 * @param type must not be {@literal null}.
+	 * @param forCollection whether to return the relation type for a collection of the given type.
+	 * @return
+	 */
+	static String getDefaultedRelFor(RelProvider provider, Class<?> type, boolean forCollection) {
 
 		if (provider == null) {
 			return DEFAULT_REL;
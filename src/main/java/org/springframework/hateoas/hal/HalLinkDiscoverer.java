@@ -15,8 +15,15 @@
  */
 package org.springframework.hateoas.hal;
 
-import org.springframework.hateoas.MediaTypes;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import org.springframework.hateoas.Link;
 import org.springframework.hateoas.LinkDiscoverer;
+import org.springframework.hateoas.Links;
+import org.springframework.hateoas.MediaTypes;
 import org.springframework.hateoas.core.JsonPathLinkDiscoverer;
 
 /**
@@ -26,7 +33,55 @@ import org.springframework.hateoas.core.JsonPathLinkDiscoverer;
  */
 public class HalLinkDiscoverer extends JsonPathLinkDiscoverer {
 
+	private static final String LINKS = "_links";
+	private static final String HREF = "href";
+
 	public HalLinkDiscoverer() {
 		super("$_links..%s.href", MediaTypes.HAL_JSON);
 	}
+
+	/* 
+	 * (non-Javadoc)
+	 * @see org.springframework.hateoas.core.JsonPathLinkDiscoverer#findAllLinks(java.lang.Object)
+	 */
+	@Override
+	protected Links findAllLinks(Object document) {
+
+		if (!(document instanceof Map)) {
+			return new Links();
+		}
+
+		Object linksObject = ((Map<?, ?>) document).get(LINKS);
+
+		if (!(linksObject instanceof Map)) {
+			return new Links();
+		}
+
+		List<Link> links = new ArrayList<Link>();
+
+		for (Entry<?, ?> entry : ((Map<?, ?>) linksObject).entrySet()) {
+
+			String rel = entry.getKey().toString();
+			Object value = entry.getValue();
+
+			if (value instanceof List) {
+				for (Object element : (List<?>) value) {
+					addLink(element, rel, links);
+				}
+			} else {
+				addLink(value, rel, links);
+			}
+		}
+
+		return new Links(links);
+	}
+
+	private static void addLink(Object source, String rel, List<Link> links) {
+
+		Object href = source instanceof Map ? ((Map<?, ?>) source).get(HREF) : null;
+
+		if (href != null) {
+			links.add(new Link(href.toString(), rel));
+		}
+	}
 }
@@ -0,0 +1,322 @@
+/*
+ * Copyright 2014 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.hal;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.LinkDiscoverer;
+import org.springframework.hateoas.Links;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.hateoas.MultiRelLinkDiscoverer;
+import org.springframework.http.MediaType;
+import org.springframework.util.Assert;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+/**
+ * {@link LinkDiscoverer} implementation for HAL that reads the representation token by token using a Jackson 2
+ * {@link JsonParser}. In contrast to {@link HalLinkDiscoverer} no document tree is built, all fields but {@code _links}
+ * are skipped and lookups for a single link stop as soon as it was found. Thus large representations are handled in
+ * constant memory. Links of embedded resources are only considered if configured explicitly.
+ * 
+ * @since 0.10
+ */
+public class Jackson2HalLinkDiscoverer implements MultiRelLinkDiscoverer {
+
+	private static final String LINKS = "_links";
+	private static final String EMBEDDED = "_embedded";
+	private static final String HREF = "href";
+
+	private static final JsonFactory FACTORY = new JsonFactory();
+
+	static {
+		FACTORY.disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+	}
+
+	private final boolean includeEmbedded;
+
+	/**
+	 * Creates a new {@link Jackson2HalLinkDiscoverer} only considering the links of the top level resource.
+	 */
+	public Jackson2HalLinkDiscoverer() {
+		this(false);
+	}
+
+	/**
+	 * Creates a new {@link Jackson2HalLinkDiscoverer}.
+	 * 
+	 * @param includeEmbedded whether to also consider the links of resources contained in {@code _embedded}.
+	 */
+	public Jackson2HalLinkDiscoverer(boolean includeEmbedded) {
+		this.includeEmbedded = includeEmbedded;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.hateoas.LinkDiscoverer#findLinkWithRel(java.lang.String, java.lang.String)
+	 */
+	@Override
+	public Link findLinkWithRel(String rel, String representation) {
+
+		List<Link> links = findLinks(toRels(rel), representation, 1);
+		return links.isEmpty() ? null : links.get(0);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.hateoas.LinkDiscoverer#findLinkWithRel(java.lang.String, java.io.InputStream)
+	 */
+	@Override
+	public Link findLinkWithRel(String rel, InputStream representation) {
+
+		List<Link> links = findLinks(toRels(rel), representation, 1);
+		return links.isEmpty() ? null : links.get(0);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.hateoas.LinkDiscoverer#findLinksWithRel(java.lang.String, java.lang.String)
+	 */
+	@Override
+	public List<Link> findLinksWithRel(String rel, String representation) {
+		return findLinks(toRels(rel), representation, Integer.MAX_VALUE);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.hateoas.LinkDiscoverer#findLinksWithRel(java.lang.String, java.io.InputStream)
+	 */
+	@Override
+	public List<Link> findLinksWithRel(String rel, InputStream representation) {
+		return findLinks(toRels(rel), representation, Integer.MAX_VALUE);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.hateoas.MultiRelLinkDiscoverer#findLinks(java.util.Set, java.lang.String)
+	 */
+	@Override
+	public Links findLinks(Set<String> rels, String representation) {
+		return new Links(findLinks(rels == null || rels.isEmpty() ? null : rels, representation, Integer.MAX_VALUE));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.hateoas.MultiRelLinkDiscoverer#findLinks(java.util.Set, java.io.InputStream)
+	 */
+	@Override
+	public Links findLinks(Set<String> rels, InputStream representation) {
+		return new Links(findLinks(rels == null || rels.isEmpty() ? null : rels, representation, Integer.MAX_VALUE));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.plugin.core.Plugin#supports(java.lang.Object)
+	 */
+	@Override
+	public boolean supports(MediaType delimiter) {
+		return MediaTypes.HAL_JSON.isCompatibleWith(delimiter);
+	}
+
+	private static Set<String> toRels(String rel) {
+
+		Assert.hasText(rel, "Relation type must not be null or empty!");
+		return Collections.singleton(rel);
+	}
+
+	private List<Link> findLinks(Set<String> rels, String representation, int limit) {
+
+		Assert.notNull(representation, "Representation must not be null!");
+
+		try {
+			return findLinks(rels, FACTORY.createParser(representation), limit);
+		} catch (IOException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	private List<Link> findLinks(Set<String> rels, InputStream representation, int limit) {
+
+		Assert.notNull(representation, "Representation must not be null!");
+
+		try {
+			return findLinks(rels, FACTORY.createParser(representation), limit);
+		} catch (IOException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	/**
+	 * Reads the links with the given relation types from the document the given {@link JsonParser} points to.
+	 * 
+	 * @param rels the relation types to look for, {@literal null} for all relation types.
+	 * @param parser must not be {@literal null}.
+	 * @param limit the maximum number of links to read.
+	 * @return
+	 * @throws IOException
+	 */
+	private List<Link> findLinks(Set<String> rels, JsonParser parser, int limit) throws IOException {
+
+		try {
+
+			if (parser.nextToken() != JsonToken.START_OBJECT) {
+				return Collections.emptyList();
+			}
+
+			List<Link> links = new ArrayList<Link>();
+			readResource(parser, rels, links, limit);
+
+			return Collections.unmodifiableList(links);
+
+		} finally {
+			parser.close();
+		}
+	}
+
+	/**
+	 * Reads the links of the resource object the given {@link JsonParser} is currently positioned at. Returns whether
+	 * the limit was reached and parsing can stop.
+	 */
+	private boolean readResource(JsonParser parser, Set<String> rels, List<Link> links, int limit) throws IOException {
+
+		while (parser.nextToken() == JsonToken.FIELD_NAME) {
+
+			String name = parser.getCurrentName();
+			JsonToken value = parser.nextToken();
+
+			if (LINKS.equals(name) && value == JsonToken.START_OBJECT) {
+				if (readLinks(parser, rels, links, limit)) {
+					return true;
+				}
+			} else if (includeEmbedded && EMBEDDED.equals(name) && value == JsonToken.START_OBJECT) {
+				if (readEmbedded(parser, rels, links, limit)) {
+					return true;
+				}
+			} else {
+				parser.skipChildren();
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * Reads the link objects of the given relation types from the {@code _links} object the given {@link JsonParser} is
+	 * currently positioned at.
+	 */
+	private boolean readLinks(JsonParser parser, Set<String> rels, List<Link> links, int limit) throws IOException {
+
+		while (parser.nextToken() == JsonToken.FIELD_NAME) {
+
+			String name = parser.getCurrentName();
+			JsonToken value = parser.nextToken();
+
+			if (rels != null && !rels.contains(name)) {
+				parser.skipChildren();
+				continue;
+			}
+
+			if (value == JsonToken.START_OBJECT) {
+				readLink(parser, name, links);
+			} else if (value == JsonToken.START_ARRAY) {
+
+				while (parser.nextToken() != JsonToken.END_ARRAY) {
+
+					if (links.size() >= limit) {
+						return true;
+					}
+
+					if (parser.getCurrentToken() == JsonToken.START_OBJECT) {
+						readLink(parser, name, links);
+					} else {
+						parser.skipChildren();
+					}
+				}
+			}
+
+			if (links.size() >= limit) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * Reads the link object the given {@link JsonParser} is currently positioned at and adds it to the given links in
+	 * case it contains an {@code href}.
+	 */
+	private static void readLink(JsonParser parser, String rel, List<Link> links) throws IOException {
+
+		String href = null;
+
+		while (parser.nextToken() == JsonToken.FIELD_NAME) {
+
+			String name = parser.getCurrentName();
+			JsonToken value = parser.nextToken();
+
+			if (HREF.equals(name) && value.isScalarValue()) {
+				href = parser.getText();
+			} else {
+				parser.skipChildren();
+			}
+		}
+
+		if (href != null) {
+			links.add(new Link(href, rel));
+		}
+	}
+
+	/**
+	 * Reads the links of all resources contained in the {@code _embedded} object the given {@link JsonParser} is
+	 * currently positioned at.
+	 */
+	private boolean readEmbedded(JsonParser parser, Set<String> rels, List<Link> links, int limit) throws IOException {
+
+		while (parser.nextToken() == JsonToken.FIELD_NAME) {
+
+			JsonToken value = parser.nextToken();
+
+			if (value == JsonToken.START_OBJECT) {
+				if (readResource(parser, rels, links, limit)) {
+					return true;
+				}
+			} else if (value == JsonToken.START_ARRAY) {
+
+				while (parser.nextToken() != JsonToken.END_ARRAY) {
+
+					if (parser.getCurrentToken() != JsonToken.START_OBJECT) {
+						parser.skipChildren();
+					} else if (readResource(parser, rels, links, limit)) {
+						return true;
+					}
+				}
+			} else {
+				parser.skipChildren();
+			}
+		}
+
+		return false;
+	}
+}
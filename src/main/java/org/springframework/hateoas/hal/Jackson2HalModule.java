@@ -19,20 +19,29 @@ import java.io.IOException;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 
 import org.springframework.beans.BeanUtils;
+import org.springframework.hateoas.ConstantLink;
 import org.springframework.hateoas.Link;
 import org.springframework.hateoas.Links;
 import org.springframework.hateoas.RelProvider;
 import org.springframework.hateoas.Resource;
 import org.springframework.hateoas.ResourceSupport;
 import org.springframework.hateoas.Resources;
+import org.springframework.hateoas.core.HypermediaMetrics;
+import org.springframework.hateoas.core.HypermediaMetrics.Operation;
+import org.springframework.hateoas.core.HypermediaMetrics.Sample;
+import org.springframework.hateoas.core.ObjectUtils;
+import org.springframework.hateoas.core.StreamingCollection;
 import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentReferenceHashMap;
 
 import com.fasterxml.jackson.core.JsonGenerationException;
 import com.fasterxml.jackson.core.JsonGenerator;
@@ -40,7 +49,10 @@ import com.fasterxml.jackson.core.JsonParseException;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.SerializableString;
 import com.fasterxml.jackson.core.Version;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.BeanDescription;
 import com.fasterxml.jackson.databind.BeanProperty;
 import com.fasterxml.jackson.databind.DeserializationConfig;
 import com.fasterxml.jackson.databind.DeserializationContext;
@@ -63,11 +75,17 @@ import com.fasterxml.jackson.databind.jsontype.TypeIdResolver;
 import com.fasterxml.jackson.databind.jsontype.TypeResolverBuilder;
 import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
 import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.BeanSerializer;
+import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
 import com.fasterxml.jackson.databind.ser.ContainerSerializer;
 import com.fasterxml.jackson.databind.ser.ContextualSerializer;
+import com.fasterxml.jackson.databind.ser.ResolvableSerializer;
+import com.fasterxml.jackson.databind.ser.impl.PropertySerializerMap;
+import com.fasterxml.jackson.databind.ser.impl.PropertySerializerMap.SerializerAndMapResult;
 import com.fasterxml.jackson.databind.ser.std.MapSerializer;
 import com.fasterxml.jackson.databind.ser.std.NonTypedScalarSerializerBase;
 import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.fasterxml.jackson.databind.util.NameTransformer;
 
 /**
  * Jackson 2 module implementation to render {@link Link} and {@link ResourceSupport} instances in HAL compatible JSON.
@@ -80,12 +98,31 @@ public class Jackson2HalModule extends SimpleModule {
 	private static final long serialVersionUID = 7806951456457932384L;
 
 	public Jackson2HalModule() {
+		this(HypermediaMetrics.NONE);
+	}
+
+	/**
+	 * Creates a new {@link Jackson2HalModule} recording the rendering of top-level {@link ResourceSupport} instances
+	 * with the given {@link HypermediaMetrics}. Each top-level representation is timed as a single
+	 * {@link Operation#RENDER} operation, the links and embedded resources of nested representations are attributed to
+	 * it.
+	 * 
+	 * @param metrics must not be {@literal null}.
+	 * @since 0.10
+	 */
+	public Jackson2HalModule(HypermediaMetrics metrics) {
 
 		super("json-hal-module", new Version(1, 0, 0, null, "org.springframework.hateoas", "spring-hateoas"));
 
+		Assert.notNull(metrics, "HypermediaMetrics must not be null!");
+
 		setMixInAnnotation(Link.class, LinkMixin.class);
 		setMixInAnnotation(ResourceSupport.class, ResourceSupportMixin.class);
 		setMixInAnnotation(Resources.class, ResourcesMixin.class);
+
+		if (metrics != HypermediaMetrics.NONE) {
+			setSerializerModifier(new RenderingMetricsSerializerModifier(metrics));
+		}
 	}
 
 	/**
@@ -108,18 +145,35 @@ public class Jackson2HalModule extends SimpleModule {
 	 */
 	public static class HalLinkListSerializer extends ContainerSerializer<List<Link>> implements ContextualSerializer {
 
+		private static final String CURIES_REL = "curies";
+		private static final SerializableString HREF_FIELD = new SerializedString("href");
+		private static final SerializableString TEMPLATED_FIELD = new SerializedString("templated");
+
+		private static final int CACHE_LIMIT = 256;
+		private static final Map<String, SerializableString> HREFS = new ConcurrentReferenceHashMap<String, SerializableString>(
+				CACHE_LIMIT);
+
 		private final BeanProperty property;
 		private final CurieProvider curieProvider;
+		private final JsonSerializer<Object> linkSerializer;
+		private final boolean defaultLinkSerializer;
 
 		public HalLinkListSerializer(CurieProvider curieProvider) {
 			this(null, curieProvider);
 		}
 
 		public HalLinkListSerializer(BeanProperty property, CurieProvider curieProvider) {
+			this(property, curieProvider, null, false);
+		}
+
+		private HalLinkListSerializer(BeanProperty property, CurieProvider curieProvider,
+				JsonSerializer<Object> linkSerializer, boolean defaultLinkSerializer) {
 
 			super(List.class, false);
 			this.property = property;
 			this.curieProvider = curieProvider;
+			this.linkSerializer = linkSerializer;
+			this.defaultLinkSerializer = defaultLinkSerializer;
 		}
 
 		/*
@@ -130,46 +184,140 @@ public class Jackson2HalModule extends SimpleModule {
 		public void serialize(List<Link> value, JsonGenerator jgen, SerializerProvider provider) throws IOException,
 				JsonGenerationException {
 
-			// sort links according to their relation
-			Map<String, List<Object>> sortedLinks = new LinkedHashMap<String, List<Object>>();
-			List<Link> links = new ArrayList<Link>();
+			serializeLinks(value, jgen, provider);
+			RenderingMetrics.current().recordLinks(value.size());
+		}
+
+		@SuppressWarnings("unchecked")
+		private void serializeLinks(List<Link> value, JsonGenerator jgen, SerializerProvider provider) throws IOException {
 
-			boolean prefixingRequired = curieProvider != null;
+			// Links grouped by rel in the order of the rel's first occurrence, values are a single Link or a List of them
+			Map<String, Object> sortedLinks = new LinkedHashMap<String, Object>(value.size() * 4 / 3 + 1);
 			boolean curiedLinkPresent = false;
 
 			for (Link link : value) {
 
-				String rel = prefixingRequired ? curieProvider.getNamespacedRelFrom(link) : link.getRel();
+				String rel = curieProvider == null ? link.getRel() : curieProvider.getNamespacedRelFrom(link);
 
 				if (!link.getRel().equals(rel)) {
 					curiedLinkPresent = true;
 				}
 
-				if (sortedLinks.get(rel) == null) {
-					sortedLinks.put(rel, new ArrayList<Object>());
+				Object existing = sortedLinks.get(rel);
+
+				if (existing == null) {
+					sortedLinks.put(rel, link);
+				} else if (existing instanceof Link) {
+
+					List<Link> links = new ArrayList<Link>();
+					links.add((Link) existing);
+					links.add(link);
+
+					sortedLinks.put(rel, links);
+
+				} else {
+					((List<Link>) existing).add(link);
+				}
+			}
+
+			jgen.writeStartObject();
+
+			for (Map.Entry<String, Object> entry : sortedLinks.entrySet()) {
+
+				jgen.writeFieldName(entry.getKey());
+				Object links = entry.getValue();
+
+				if (links instanceof Link) {
+					serializeLink((Link) links, jgen, provider);
+					continue;
+				}
+
+				jgen.writeStartArray();
+
+				for (Link link : (List<Link>) links) {
+					serializeLink(link, jgen, provider);
 				}
 
-				links.add(link);
-				sortedLinks.get(rel).add(link);
+				jgen.writeEndArray();
 			}
 
-			if (prefixingRequired && curiedLinkPresent) {
+			if (curiedLinkPresent) {
+
+				jgen.writeFieldName(CURIES_REL);
+				jgen.writeStartArray();
 
-				ArrayList<Object> curies = new ArrayList<Object>();
-				curies.add(curieProvider.getCurieInformation(new Links(links)));
+				for (Object curie : curieProvider.getCurieInformation(new Links(value))) {
+					provider.findValueSerializer(curie.getClass(), property).serialize(curie, jgen, provider);
+				}
 
-				sortedLinks.put("curies", curies);
+				jgen.writeEndArray();
 			}
 
-			TypeFactory typeFactory = provider.getConfig().getTypeFactory();
-			JavaType keyType = typeFactory.uncheckedSimpleType(String.class);
-			JavaType valueType = typeFactory.constructCollectionType(ArrayList.class, Object.class);
-			JavaType mapType = typeFactory.constructMapType(HashMap.class, keyType, valueType);
+			jgen.writeEndObject();
+		}
 
-			MapSerializer serializer = MapSerializer.construct(new String[] {}, mapType, true, null,
-					provider.findKeySerializer(keyType, null), new OptionalListJackson2Serializer(property), null);
+		private void serializeLink(Link link, JsonGenerator jgen, SerializerProvider provider) throws IOException {
 
-			serializer.serialize(sortedLinks, jgen, provider);
+			if (defaultLinkSerializer && link instanceof ConstantLink) {
+				serializeConstantLink((ConstantLink) link, jgen);
+				return;
+			}
+
+			// ConstantLinks don't add any state, so render them like plain Links
+			boolean plainLink = Link.class.equals(link.getClass()) || link instanceof ConstantLink;
+			JsonSerializer<Object> serializer = linkSerializer != null && plainLink ? linkSerializer : provider
+					.findValueSerializer(link.getClass(), property);
+
+			serializer.serialize(link, jgen, provider);
+		}
+
+		/**
+		 * Writes the given {@link ConstantLink} using the escaped and encoded form of its href cached across invocations.
+		 * Only used if the {@link Link} serializer in use is the default one, so that the output is equivalent.
+		 * 
+		 * @param link must not be {@literal null}.
+		 * @param jgen must not be {@literal null}.
+		 * @throws IOException
+		 */
+		private static void serializeConstantLink(ConstantLink link, JsonGenerator jgen) throws IOException {
+
+			String href = link.getHref();
+			SerializableString serializedHref = HREFS.get(href);
+
+			if (serializedHref == null) {
+
+				serializedHref = new SerializedString(href);
+
+				if (HREFS.size() < CACHE_LIMIT) {
+					HREFS.put(href, serializedHref);
+				}
+			}
+
+			jgen.writeStartObject();
+			jgen.writeFieldName(HREF_FIELD);
+			jgen.writeString(serializedHref);
+
+			if (link.isTemplated()) {
+				jgen.writeFieldName(TEMPLATED_FIELD);
+				jgen.writeBoolean(true);
+			}
+
+			jgen.writeEndObject();
+		}
+
+		/**
+		 * Returns whether the given {@link Link} serializer renders links the way {@link LinkMixin} defines it, i.e. it's a
+		 * plain bean serializer and neither a different mixin nor a property naming strategy is configured.
+		 * 
+		 * @param serializer can be {@literal null}.
+		 * @param config must not be {@literal null}.
+		 * @return
+		 */
+		private static boolean isDefaultLinkSerializer(JsonSerializer<?> serializer, SerializationConfig config) {
+
+			return serializer != null && BeanSerializer.class.equals(serializer.getClass())
+					&& LinkMixin.class.equals(config.findMixInClassFor(Link.class))
+					&& config.findMixInClassFor(ConstantLink.class) == null && config.getPropertyNamingStrategy() == null;
 		}
 
 		/*
@@ -179,7 +327,11 @@ public class Jackson2HalModule extends SimpleModule {
 		@Override
 		public JsonSerializer<?> createContextual(SerializerProvider provider, BeanProperty property)
 				throws JsonMappingException {
-			return new HalLinkListSerializer(property, curieProvider);
+
+			JsonSerializer<Object> linkSerializer = provider.findValueSerializer(Link.class, property);
+			boolean defaultLinkSerializer = isDefaultLinkSerializer(linkSerializer, provider.getConfig());
+
+			return new HalLinkListSerializer(property, curieProvider, linkSerializer, defaultLinkSerializer);
 		}
 
 		/*
@@ -239,18 +391,27 @@ public class Jackson2HalModule extends SimpleModule {
 		private final BeanProperty property;
 		private final RelProvider relProvider;
 		private final boolean enforceEmbeddedCollections;
+		private final MapSerializer serializer;
+		private final OptionalListJackson2Serializer elementSerializer;
 
 		public HalResourcesSerializer(RelProvider relPorvider, boolean enforceEmbeddedCollections) {
 			this(null, relPorvider, enforceEmbeddedCollections);
 		}
 
 		public HalResourcesSerializer(BeanProperty property, RelProvider relProvider, boolean enforceEmbeddedCollections) {
+			this(property, relProvider, enforceEmbeddedCollections, null, null);
+		}
+
+		private HalResourcesSerializer(BeanProperty property, RelProvider relProvider,
+				boolean enforceEmbeddedCollections, OptionalListJackson2Serializer elementSerializer, MapSerializer serializer) {
 
 			super(Collection.class, false);
 
 			this.property = property;
 			this.relProvider = relProvider;
 			this.enforceEmbeddedCollections = enforceEmbeddedCollections;
+			this.elementSerializer = elementSerializer;
+			this.serializer = serializer;
 		}
 
 		/*
@@ -263,30 +424,204 @@ public class Jackson2HalModule extends SimpleModule {
 		public void serialize(Collection<?> value, JsonGenerator jgen, SerializerProvider provider) throws IOException,
 				JsonGenerationException {
 
+			RenderingMetrics metrics = RenderingMetrics.current();
+
+			if (value instanceof StreamingCollection) {
+				serializeStreaming(value.iterator(), jgen, provider, metrics);
+				return;
+			}
+
 			HalEmbeddedBuilder builder = new HalEmbeddedBuilder(relProvider, enforceEmbeddedCollections);
 
 			for (Object resource : value) {
 				builder.add(resource);
 			}
 
+			Map<String, List<Object>> embeddeds = builder.asMap();
+
+			MapSerializer serializer = this.serializer == null ? createMapSerializer(provider, property,
+					new OptionalListJackson2Serializer(property)) : this.serializer;
+			serializer.serialize(embeddeds, jgen, provider);
+
+			for (Map.Entry<String, List<Object>> entry : embeddeds.entrySet()) {
+				metrics.recordEmbedded(entry.getKey(), entry.getValue().size());
+			}
+		}
+
+		/**
+		 * Creates the {@link MapSerializer} to render the embedded resources keyed by relation type. The result only
+		 * depends on the given {@link SerializerProvider} and {@link BeanProperty} and can thus be resolved once in
+		 * {@link #createContextual(SerializerProvider, BeanProperty)}.
+		 * 
+		 * @param provider must not be {@literal null}.
+		 * @param property can be {@literal null}.
+		 * @param elementSerializer the serializer to render single elements, must not be {@literal null}.
+		 * @return
+		 * @throws JsonMappingException
+		 */
+		private MapSerializer createMapSerializer(SerializerProvider provider, BeanProperty property,
+				OptionalListJackson2Serializer elementSerializer) throws JsonMappingException {
+
 			TypeFactory typeFactory = provider.getConfig().getTypeFactory();
 			JavaType keyType = typeFactory.uncheckedSimpleType(String.class);
 			JavaType valueType = typeFactory.constructCollectionType(ArrayList.class, Resource.class);
 			JavaType mapType = typeFactory.constructMapType(HashMap.class, keyType, valueType);
 
 			JsonSerializer<Object> valueSerializer = enforceEmbeddedCollections ? provider.findValueSerializer(valueType,
-					property) : new OptionalListJackson2Serializer(property);
+					property) : elementSerializer;
+
+			return MapSerializer.construct(new String[] {}, mapType, true, null, provider.findKeySerializer(keyType, null),
+					valueSerializer, null);
+		}
+
+		/**
+		 * Writes the elements of the given {@link Iterator} to the given {@link JsonGenerator} without collecting them
+		 * upfront. The elements of the first relation type seen with more than one element are streamed into an array as
+		 * they arrive. The elements of all other relation types are buffered and written once the {@link Iterator} is
+		 * exhausted, a single element under the item relation type unless embedded collections are enforced. Thus the
+		 * output is the same as for a collected source, no matter how the elements are ordered.
+		 * 
+		 * @param iterator must not be {@literal null}.
+		 * @param jgen must not be {@literal null}.
+		 * @param provider must not be {@literal null}.
+		 * @param metrics the {@link RenderingMetrics} to record the number of elements per relation type with, must not be
+		 *          {@literal null}.
+		 * @throws IOException
+		 */
+		private void serializeStreaming(Iterator<?> iterator, JsonGenerator jgen, SerializerProvider provider,
+				RenderingMetrics metrics) throws IOException {
+
+			OptionalListJackson2Serializer elementSerializer = this.elementSerializer;
+
+			if (elementSerializer == null) {
+				elementSerializer = new OptionalListJackson2Serializer(property);
+			}
+
+			Map<String, List<Object>> buffered = new LinkedHashMap<String, List<Object>>();
+			String streamingRel = null;
+			int streamed = 0;
+
+			jgen.writeStartObject();
+
+			for (Object current = nextEmbeddable(iterator); current != null; current = nextEmbeddable(iterator)) {
+
+				String rel = getCollectionRelFor(current);
+
+				if (rel.equals(streamingRel)) {
+					elementSerializer.serialize(Collections.singletonList(current), jgen, provider);
+					streamed++;
+					continue;
+				}
+
+				List<Object> elements = buffered.get(rel);
+
+				if (streamingRel == null && (elements != null || enforceEmbeddedCollections)) {
+
+					jgen.writeFieldName(rel);
+					jgen.writeStartArray();
+
+					if (elements != null) {
+						serializeElements(elements, elementSerializer, jgen, provider);
+						streamed = elements.size();
+						buffered.remove(rel);
+					}
+
+					elementSerializer.serialize(Collections.singletonList(current), jgen, provider);
+					streamingRel = rel;
+					streamed++;
+					continue;
+				}
+
+				if (elements == null) {
+					elements = new ArrayList<Object>();
+					buffered.put(rel, elements);
+				}
+
+				elements.add(current);
+			}
+
+			if (streamingRel != null) {
+				jgen.writeEndArray();
+				metrics.recordEmbedded(streamingRel, streamed);
+			}
+
+			for (Entry<String, List<Object>> entry : buffered.entrySet()) {
+
+				String rel = entry.getKey();
+				List<Object> elements = entry.getValue();
+
+				if (elements.size() == 1 && !enforceEmbeddedCollections) {
 
-			MapSerializer serializer = MapSerializer.construct(new String[] {}, mapType, true, null,
-					provider.findKeySerializer(keyType, null), valueSerializer, null);
+					Class<?> type = ObjectUtils.getResourceType(elements.get(0));
+					rel = HalEmbeddedBuilder.getDefaultedRelFor(relProvider, type, false);
+					jgen.writeFieldName(rel);
+					elementSerializer.serialize(elements, jgen, provider);
 
-			serializer.serialize(builder.asMap(), jgen, provider);
+				} else {
+
+					jgen.writeFieldName(rel);
+					jgen.writeStartArray();
+					serializeElements(elements, elementSerializer, jgen, provider);
+					jgen.writeEndArray();
+				}
+
+				metrics.recordEmbedded(rel, elements.size());
+			}
+
+			jgen.writeEndObject();
+		}
+
+		/**
+		 * Writes the given elements one by one into the currently open array.
+		 * 
+		 * @param elements must not be {@literal null}.
+		 * @param elementSerializer must not be {@literal null}.
+		 * @param jgen must not be {@literal null}.
+		 * @param provider must not be {@literal null}.
+		 * @throws IOException
+		 */
+		private static void serializeElements(List<Object> elements, OptionalListJackson2Serializer elementSerializer,
+				JsonGenerator jgen, SerializerProvider provider) throws IOException {
+
+			for (Object element : elements) {
+				elementSerializer.serialize(Collections.singletonList(element), jgen, provider);
+			}
+		}
+
+		private String getCollectionRelFor(Object value) {
+			return HalEmbeddedBuilder.getDefaultedRelFor(relProvider, ObjectUtils.getResourceType(value), true);
+		}
+
+		/**
+		 * Returns the next element of the given {@link Iterator} that can be embedded, i.e. skips {@literal null} values
+		 * and {@link Resource}s without content just like {@link HalEmbeddedBuilder} does.
+		 * 
+		 * @param iterator must not be {@literal null}.
+		 * @return the next element or {@literal null} if the {@link Iterator} is exhausted.
+		 */
+		private static Object nextEmbeddable(Iterator<?> iterator) {
+
+			while (iterator.hasNext()) {
+
+				Object candidate = iterator.next();
+
+				if (ObjectUtils.getResourceType(candidate) != null) {
+					return candidate;
+				}
+			}
+
+			return null;
 		}
 
 		@Override
 		public JsonSerializer<?> createContextual(SerializerProvider prov, BeanProperty property)
 				throws JsonMappingException {
-			return new HalResourcesSerializer(property, relProvider, enforceEmbeddedCollections);
+
+			OptionalListJackson2Serializer elementSerializer = new OptionalListJackson2Serializer(property);
+			MapSerializer serializer = createMapSerializer(prov, property, elementSerializer);
+
+			return new HalResourcesSerializer(property, relProvider, enforceEmbeddedCollections, elementSerializer,
+					serializer);
 		}
 
 		@Override
@@ -326,7 +661,7 @@ public class Jackson2HalModule extends SimpleModule {
 			ContextualSerializer {
 
 		private final BeanProperty property;
-		private final Map<Class<?>, JsonSerializer<Object>> serializers;
+		private volatile PropertySerializerMap serializers;
 
 		public OptionalListJackson2Serializer() {
 			this(null);
@@ -341,7 +676,7 @@ public class Jackson2HalModule extends SimpleModule {
 
 			super(List.class, false);
 			this.property = property;
-			this.serializers = new HashMap<Class<?>, JsonSerializer<Object>>();
+			this.serializers = PropertySerializerMap.emptyMap();
 		}
 
 		/*
@@ -390,17 +725,30 @@ public class Jackson2HalModule extends SimpleModule {
 			}
 		}
 
+		/**
+		 * Returns the {@link JsonSerializer} for the given type. Looked up serializers are kept in an immutable
+		 * {@link PropertySerializerMap} that gets replaced on additions, so that the instance can be shared across threads.
+		 * Concurrent additions might get lost which only results in an additional lookup later on.
+		 * 
+		 * @param type must not be {@literal null}.
+		 * @param provider must not be {@literal null}.
+		 * @return
+		 * @throws JsonMappingException
+		 */
 		private JsonSerializer<Object> getOrLookupSerializerFor(Class<?> type, SerializerProvider provider)
 				throws JsonMappingException {
 
-			JsonSerializer<Object> serializer = serializers.get(type);
+			PropertySerializerMap serializers = this.serializers;
+			JsonSerializer<Object> serializer = serializers.serializerFor(type);
 
-			if (serializer == null) {
-				serializer = provider.findValueSerializer(type, property);
-				serializers.put(type, serializer);
+			if (serializer != null) {
+				return serializer;
 			}
 
-			return serializer;
+			SerializerAndMapResult result = serializers.findAndAddSerializer(type, provider, property);
+			this.serializers = result.map;
+
+			return result.serializer;
 		}
 
 		/*
@@ -707,4 +1055,263 @@ public class Jackson2HalModule extends SimpleModule {
 			}
 		}
 	}
+
+	/**
+	 * {@link BeanSerializerModifier} to wrap the serializers of all {@link ResourceSupport} types into a
+	 * {@link RenderingMetricsSerializer}.
+	 * 
+	 * @since 0.10
+	 */
+	private static class RenderingMetricsSerializerModifier extends BeanSerializerModifier {
+
+		private final HypermediaMetrics metrics;
+
+		public RenderingMetricsSerializerModifier(HypermediaMetrics metrics) {
+			this.metrics = metrics;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see com.fasterxml.jackson.databind.ser.BeanSerializerModifier#modifySerializer(com.fasterxml.jackson.databind.SerializationConfig, com.fasterxml.jackson.databind.BeanDescription, com.fasterxml.jackson.databind.JsonSerializer)
+		 */
+		@Override
+		@SuppressWarnings("unchecked")
+		public JsonSerializer<?> modifySerializer(SerializationConfig config, BeanDescription beanDesc,
+				JsonSerializer<?> serializer) {
+
+			if (!ResourceSupport.class.isAssignableFrom(beanDesc.getBeanClass())) {
+				return serializer;
+			}
+
+			return new RenderingMetricsSerializer((JsonSerializer<Object>) serializer, metrics);
+		}
+	}
+
+	/**
+	 * {@link JsonSerializer} delegating to the actual serializer of a {@link ResourceSupport} type and timing the
+	 * rendering in case it's the top-level representation.
+	 * 
+	 * @since 0.10
+	 */
+	private static class RenderingMetricsSerializer extends JsonSerializer<Object> implements ContextualSerializer,
+			ResolvableSerializer {
+
+		private final JsonSerializer<Object> delegate;
+		private final HypermediaMetrics metrics;
+
+		public RenderingMetricsSerializer(JsonSerializer<Object> delegate, HypermediaMetrics metrics) {
+			this.delegate = delegate;
+			this.metrics = metrics;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see com.fasterxml.jackson.databind.JsonSerializer#serialize(java.lang.Object, com.fasterxml.jackson.core.JsonGenerator, com.fasterxml.jackson.databind.SerializerProvider)
+		 */
+		@Override
+		public void serialize(Object value, JsonGenerator jgen, SerializerProvider provider) throws IOException,
+				JsonProcessingException {
+
+			RenderingMetrics rendering = RenderingMetrics.start(metrics);
+
+			try {
+				delegate.serialize(value, jgen, provider);
+			} finally {
+				rendering.stop();
+			}
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see com.fasterxml.jackson.databind.JsonSerializer#serializeWithType(java.lang.Object, com.fasterxml.jackson.core.JsonGenerator, com.fasterxml.jackson.databind.SerializerProvider, com.fasterxml.jackson.databind.jsontype.TypeSerializer)
+		 */
+		@Override
+		public void serializeWithType(Object value, JsonGenerator jgen, SerializerProvider provider,
+				TypeSerializer typeSer) throws IOException, JsonProcessingException {
+
+			RenderingMetrics rendering = RenderingMetrics.start(metrics);
+
+			try {
+				delegate.serializeWithType(value, jgen, provider, typeSer);
+			} finally {
+				rendering.stop();
+			}
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see com.fasterxml.jackson.databind.ser.ContextualSerializer#createContextual(com.fasterxml.jackson.databind.SerializerProvider, com.fasterxml.jackson.databind.BeanProperty)
+		 */
+		@Override
+		@SuppressWarnings("unchecked")
+		public JsonSerializer<?> createContextual(SerializerProvider prov, BeanProperty property)
+				throws JsonMappingException {
+
+			if (!(delegate instanceof ContextualSerializer)) {
+				return this;
+			}
+
+			JsonSerializer<?> contextual = ((ContextualSerializer) delegate).createContextual(prov, property);
+			return contextual == delegate ? this : new RenderingMetricsSerializer((JsonSerializer<Object>) contextual,
+					metrics);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see com.fasterxml.jackson.databind.ser.ResolvableSerializer#resolve(com.fasterxml.jackson.databind.SerializerProvider)
+		 */
+		@Override
+		public void resolve(SerializerProvider provider) throws JsonMappingException {
+
+			if (delegate instanceof ResolvableSerializer) {
+				((ResolvableSerializer) delegate).resolve(provider);
+			}
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see com.fasterxml.jackson.databind.JsonSerializer#unwrappingSerializer(com.fasterxml.jackson.databind.util.NameTransformer)
+		 */
+		@Override
+		public JsonSerializer<Object> unwrappingSerializer(NameTransformer unwrapper) {
+			return new RenderingMetricsSerializer(delegate.unwrappingSerializer(unwrapper), metrics);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see com.fasterxml.jackson.databind.JsonSerializer#isUnwrappingSerializer()
+		 */
+		@Override
+		public boolean isUnwrappingSerializer() {
+			return delegate.isUnwrappingSerializer();
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see com.fasterxml.jackson.databind.JsonSerializer#isEmpty(java.lang.Object)
+		 */
+		@Override
+		public boolean isEmpty(Object value) {
+			return delegate.isEmpty(value);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see com.fasterxml.jackson.databind.JsonSerializer#usesObjectId()
+		 */
+		@Override
+		public boolean usesObjectId() {
+			return delegate.usesObjectId();
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see com.fasterxml.jackson.databind.JsonSerializer#handledType()
+		 */
+		@Override
+		public Class<Object> handledType() {
+			return delegate.handledType();
+		}
+	}
+
+	/**
+	 * Collects the {@link HypermediaMetrics} of the HAL rendering in progress on the current thread. Nested
+	 * representations are rendered from within the serializer of the outer one, so only the outermost representation
+	 * gets timed. Links are summed up across all nested representations and recorded once the outermost rendering has
+	 * finished.
+	 * 
+	 * @since 0.10
+	 */
+	private static class RenderingMetrics {
+
+		private static final RenderingMetrics DISABLED = new RenderingMetrics(HypermediaMetrics.NONE, null);
+		private static final ThreadLocal<RenderingMetrics> CURRENT = new ThreadLocal<RenderingMetrics>();
+
+		private final HypermediaMetrics metrics;
+		private final Sample sample;
+		private int depth;
+		private int links;
+
+		private RenderingMetrics(HypermediaMetrics metrics, Sample sample) {
+			this.metrics = metrics;
+			this.sample = sample;
+		}
+
+		/**
+		 * Starts the rendering of a representation. Starts timing a {@link Operation#RENDER} operation with the given
+		 * {@link HypermediaMetrics} unless a rendering is already in progress on the current thread. Every call has to be
+		 * followed by a call to {@link #stop()} on the returned instance.
+		 * 
+		 * @param metrics must not be {@literal null}.
+		 * @return
+		 */
+		public static RenderingMetrics start(HypermediaMetrics metrics) {
+
+			RenderingMetrics current = CURRENT.get();
+
+			if (current == null) {
+				current = new RenderingMetrics(metrics, metrics.start(Operation.RENDER));
+				CURRENT.set(current);
+			}
+
+			current.depth++;
+			return current;
+		}
+
+		/**
+		 * Returns the rendering in progress on the current thread or a disabled instance not recording anything in case
+		 * there's none, e.g. because the {@link Jackson2HalModule} was set up without {@link HypermediaMetrics}.
+		 * 
+		 * @return will never be {@literal null}.
+		 */
+		public static RenderingMetrics current() {
+
+			RenderingMetrics current = CURRENT.get();
+			return current == null ? DISABLED : current;
+		}
+
+		/**
+		 * Adds the given number of links to the ones rendered by the outermost rendering.
+		 * 
+		 * @param count
+		 */
+		public void recordLinks(int count) {
+
+			if (this != DISABLED) {
+				links += count;
+			}
+		}
+
+		/**
+		 * Records the number of embedded resources for the given relation type in case they're embedded into the
+		 * outermost representation.
+		 * 
+		 * @param rel must not be {@literal null}.
+		 * @param count
+		 */
+		public void recordEmbedded(String rel, int count) {
+
+			if (depth == 1) {
+				metrics.recordEmbedded(rel, count);
+			}
+		}
+
+		/**
+		 * Stops the rendering of a representation. Finishes the timing and records the links in case it's the outermost
+		 * one.
+		 */
+		public void stop() {
+
+			if (this == DISABLED || --depth > 0) {
+				return;
+			}
+
+			CURRENT.remove();
+			sample.stop();
+
+			if (links > 0) {
+				metrics.recordLinks(links);
+			}
+		}
+	}
 }
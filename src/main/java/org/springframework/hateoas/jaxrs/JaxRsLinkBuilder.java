@@ -19,6 +19,7 @@ import javax.ws.rs.Path;
 
 import org.springframework.hateoas.LinkBuilder;
 import org.springframework.hateoas.core.AnnotationMappingDiscoverer;
+import org.springframework.hateoas.core.CachingMappingDiscoverer;
 import org.springframework.hateoas.core.LinkBuilderSupport;
 import org.springframework.hateoas.core.MappingDiscoverer;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
@@ -32,7 +33,8 @@ import org.springframework.web.util.UriTemplate;
  */
 public class JaxRsLinkBuilder extends LinkBuilderSupport<JaxRsLinkBuilder> {
 
-	private static final MappingDiscoverer DISCOVERER = new AnnotationMappingDiscoverer(Path.class);
+	private static final MappingDiscoverer DISCOVERER = new CachingMappingDiscoverer(new AnnotationMappingDiscoverer(
+			Path.class));
 
 	/**
 	 * Creates a new {@link JaxRsLinkBuilder} from the given {@link UriComponentsBuilder}.
@@ -66,7 +68,7 @@ public class JaxRsLinkBuilder extends LinkBuilderSupport<JaxRsLinkBuilder> {
 
 		JaxRsLinkBuilder builder = new JaxRsLinkBuilder(ServletUriComponentsBuilder.fromCurrentServletMapping());
 
-		UriTemplate template = new UriTemplate(DISCOVERER.getMapping(service));
+		UriTemplate template = getTemplate(DISCOVERER.getMapping(service));
 		return builder.slash(template.expand(parameters));
 	}
 
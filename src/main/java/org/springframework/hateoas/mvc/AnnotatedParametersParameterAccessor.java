@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2013 the original author or authors.
+ * Copyright 2012-2014 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,6 +16,7 @@
 package org.springframework.hateoas.mvc;
 
 import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -59,18 +60,51 @@ class AnnotatedParametersParameterAccessor {
 	public List<BoundMethodParameter> getBoundParameters(MethodInvocation invocation) {
 
 		Assert.notNull(invocation, "MethodInvocation must not be null!");
+		return getBoundParameters(getBindings(invocation.getMethod()), invocation.getArguments());
+	}
+
+	/**
+	 * Returns the {@link ParameterBinding}s for all parameters of the given {@link Method} that carry the configured
+	 * annotation. The result only depends on the {@link Method} and can thus be resolved once and reused for multiple
+	 * invocations.
+	 * 
+	 * @param method must not be {@literal null}.
+	 * @return
+	 */
+	List<ParameterBinding> getBindings(Method method) {
+
+		Assert.notNull(method, "Method must not be null!");
+
+		MethodParameters parameters = MethodParameters.of(method);
+		List<MethodParameter> annotated = parameters.getParametersWith(attribute.getAnnotationType());
+		List<ParameterBinding> result = new ArrayList<ParameterBinding>(annotated.size());
+
+		for (MethodParameter parameter : annotated) {
+			result.add(new ParameterBinding(parameter, parameters.getTypeDescriptor(parameter), attribute));
+		}
+
+		return result;
+	}
 
-		MethodParameters parameters = new MethodParameters(invocation.getMethod());
-		Object[] arguments = invocation.getArguments();
-		List<BoundMethodParameter> result = new ArrayList<BoundMethodParameter>();
+	/**
+	 * Binds the given arguments to the given {@link ParameterBinding}s.
+	 * 
+	 * @param bindings must not be {@literal null}.
+	 * @param arguments must not be {@literal null}.
+	 * @return
+	 */
+	List<BoundMethodParameter> getBoundParameters(List<ParameterBinding> bindings, Object[] arguments) {
 
-		for (MethodParameter parameter : parameters.getParametersWith(attribute.getAnnotationType())) {
+		List<BoundMethodParameter> result = new ArrayList<BoundMethodParameter>(bindings.size());
 
+		for (ParameterBinding binding : bindings) {
+
+			MethodParameter parameter = binding.getParameter();
 			Object value = arguments[parameter.getParameterIndex()];
 			Object verifiedValue = verifyParameterValue(parameter, value);
 
 			if (verifiedValue != null) {
-				result.add(new BoundMethodParameter(parameter, value, attribute));
+				result.add(new BoundMethodParameter(binding, value));
 			}
 		}
 
@@ -100,6 +134,91 @@ class AnnotatedParametersParameterAccessor {
 		return value;
 	}
 
+	/**
+	 * Immutable, pre-resolved information about a {@link MethodParameter} to bind to a template variable: the variable
+	 * name and the {@link TypeDescriptor} to convert the bound value.
+	 */
+	static class ParameterBinding {
+
+		private final MethodParameter parameter;
+		private final String variableName;
+		private final TypeDescriptor typeDescriptor;
+
+		/**
+		 * Creates a new {@link ParameterBinding} for the given {@link MethodParameter} and {@link AnnotationAttribute}.
+		 * 
+		 * @param parameter must not be {@literal null}.
+		 * @param attribute can be {@literal null}.
+		 */
+		public ParameterBinding(MethodParameter parameter, AnnotationAttribute attribute) {
+			this(parameter, TypeDescriptor.nested(parameter, 0), attribute);
+		}
+
+		/**
+		 * Creates a new {@link ParameterBinding} for the given {@link MethodParameter}, its already resolved
+		 * {@link TypeDescriptor} and {@link AnnotationAttribute}.
+		 * 
+		 * @param parameter must not be {@literal null}.
+		 * @param typeDescriptor must not be {@literal null}.
+		 * @param attribute can be {@literal null}.
+		 */
+		public ParameterBinding(MethodParameter parameter, TypeDescriptor typeDescriptor, AnnotationAttribute attribute) {
+
+			Assert.notNull(parameter, "MethodParameter must not be null!");
+			Assert.notNull(typeDescriptor, "TypeDescriptor must not be null!");
+
+			this.parameter = parameter;
+			this.variableName = getVariableName(parameter, attribute);
+			this.typeDescriptor = typeDescriptor;
+		}
+
+		/**
+		 * Returns the underlying {@link MethodParameter}.
+		 * 
+		 * @return
+		 */
+		public MethodParameter getParameter() {
+			return parameter;
+		}
+
+		/**
+		 * Returns the name of the {@link UriTemplate} variable to be bound.
+		 * 
+		 * @return
+		 */
+		public String getVariableName() {
+			return variableName;
+		}
+
+		/**
+		 * Returns the {@link TypeDescriptor} of the {@link MethodParameter}.
+		 * 
+		 * @return
+		 */
+		public TypeDescriptor getTypeDescriptor() {
+			return typeDescriptor;
+		}
+
+		/**
+		 * Derives the variable name from the given {@link AnnotationAttribute} or the {@link MethodParameter} name as
+		 * fallback.
+		 * 
+		 * @param parameter must not be {@literal null}.
+		 * @param attribute can be {@literal null}.
+		 * @return
+		 */
+		private static String getVariableName(MethodParameter parameter, AnnotationAttribute attribute) {
+
+			if (attribute == null) {
+				return parameter.getParameterName();
+			}
+
+			Annotation annotation = parameter.getParameterAnnotation(attribute.getAnnotationType());
+			String annotationAttributeValue = attribute.getValueFrom(annotation);
+			return StringUtils.hasText(annotationAttributeValue) ? annotationAttributeValue : parameter.getParameterName();
+		}
+	}
+
 	/**
 	 * Represents a {@link MethodParameter} alongside the value it has been bound to.
 	 * 
@@ -110,10 +229,8 @@ class AnnotatedParametersParameterAccessor {
 		private static final ConversionService CONVERSION_SERVICE = new DefaultFormattingConversionService();
 		private static final TypeDescriptor STRING_DESCRIPTOR = TypeDescriptor.valueOf(String.class);
 
-		private final MethodParameter parameter;
+		private final ParameterBinding binding;
 		private final Object value;
-		private final AnnotationAttribute attribute;
-		private final TypeDescriptor parameterTypeDecsriptor;
 
 		/**
 		 * Creates a new {@link BoundMethodParameter}
@@ -123,13 +240,21 @@ class AnnotatedParametersParameterAccessor {
 		 * @param attribute
 		 */
 		public BoundMethodParameter(MethodParameter parameter, Object value, AnnotationAttribute attribute) {
+			this(new ParameterBinding(parameter, attribute), value);
+		}
 
-			Assert.notNull(parameter, "MethodParameter must not be null!");
+		/**
+		 * Creates a new {@link BoundMethodParameter} for the given {@link ParameterBinding} and value.
+		 * 
+		 * @param binding must not be {@literal null}.
+		 * @param value
+		 */
+		public BoundMethodParameter(ParameterBinding binding, Object value) {
 
-			this.parameter = parameter;
+			Assert.notNull(binding, "ParameterBinding must not be null!");
+
+			this.binding = binding;
 			this.value = value;
-			this.attribute = attribute;
-			this.parameterTypeDecsriptor = TypeDescriptor.nested(parameter, 0);
 		}
 
 		/**
@@ -139,14 +264,7 @@ class AnnotatedParametersParameterAccessor {
 		 * @return
 		 */
 		public String getVariableName() {
-
-			if (attribute == null) {
-				return parameter.getParameterName();
-			}
-
-			Annotation annotation = parameter.getParameterAnnotation(attribute.getAnnotationType());
-			String annotationAttributeValue = attribute.getValueFrom(annotation);
-			return StringUtils.hasText(annotationAttributeValue) ? annotationAttributeValue : parameter.getParameterName();
+			return binding.getVariableName();
 		}
 
 		/**
@@ -169,7 +287,7 @@ class AnnotatedParametersParameterAccessor {
 				return null;
 			}
 
-			return (String) CONVERSION_SERVICE.convert(value, parameterTypeDecsriptor, STRING_DESCRIPTOR);
+			return (String) CONVERSION_SERVICE.convert(value, binding.getTypeDescriptor(), STRING_DESCRIPTOR);
 		}
 	}
 }
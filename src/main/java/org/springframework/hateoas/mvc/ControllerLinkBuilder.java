@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2013 the original author or authors.
+ * Copyright 2012-2014 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -22,7 +22,11 @@ import javax.servlet.http.HttpServletRequest;
 
 import org.springframework.hateoas.Link;
 import org.springframework.hateoas.core.AnnotationMappingDiscoverer;
+import org.springframework.hateoas.core.CachingMappingDiscoverer;
 import org.springframework.hateoas.core.DummyInvocationUtils;
+import org.springframework.hateoas.core.HypermediaMetrics.Operation;
+import org.springframework.hateoas.core.HypermediaMetrics.Sample;
+import org.springframework.hateoas.core.HypermediaMetricsHolder;
 import org.springframework.hateoas.core.LinkBuilderSupport;
 import org.springframework.hateoas.core.MappingDiscoverer;
 import org.springframework.util.Assert;
@@ -32,8 +36,10 @@ import org.springframework.web.context.request.RequestAttributes;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+import org.springframework.web.util.UriComponents;
 import org.springframework.web.util.UriComponentsBuilder;
 import org.springframework.web.util.UriTemplate;
+import org.springframework.web.util.WebUtils;
 
 /**
  * Builder to ease building {@link Link} instances pointing to Spring MVC controllers.
@@ -42,8 +48,10 @@ import org.springframework.web.util.UriTemplate;
  */
 public class ControllerLinkBuilder extends LinkBuilderSupport<ControllerLinkBuilder> {
 
-	private static final MappingDiscoverer DISCOVERER = new AnnotationMappingDiscoverer(RequestMapping.class);
+	private static final MappingDiscoverer DISCOVERER = new CachingMappingDiscoverer(new AnnotationMappingDiscoverer(
+			RequestMapping.class));
 	private static final ControllerLinkBuilderFactory FACTORY = new ControllerLinkBuilderFactory();
+	private static final String BASE_URI_ATTRIBUTE = ControllerLinkBuilder.class.getName() + ".BASE_URI";
 
 	/**
 	 * Creates a new {@link ControllerLinkBuilder} using the given {@link UriComponentsBuilder}.
@@ -79,14 +87,14 @@ public class ControllerLinkBuilder extends LinkBuilderSupport<ControllerLinkBuil
 
 		ControllerLinkBuilder builder = new ControllerLinkBuilder(getBuilder());
 		String mapping = DISCOVERER.getMapping(controller);
-		UriTemplate template = new UriTemplate(mapping == null ? "/" : mapping);
+		UriTemplate template = getTemplate(mapping == null ? "/" : mapping);
 
 		return builder.slash(template.expand(parameters));
 	}
 
 	public static ControllerLinkBuilder linkTo(Method method, Object... parameters) {
 
-		UriTemplate template = new UriTemplate(DISCOVERER.getMapping(method));
+		UriTemplate template = getTemplate(DISCOVERER.getMapping(method));
 		URI uri = template.expand(parameters);
 		return new ControllerLinkBuilder(getBuilder()).slash(uri);
 	}
@@ -159,13 +167,60 @@ public class ControllerLinkBuilder extends LinkBuilderSupport<ControllerLinkBuil
 	/**
 	 * Returns a {@link UriComponentsBuilder} obtained from the current servlet mapping with the host tweaked in case the
 	 * request contains an {@code X-Forwarded-Host} header and the scheme tweaked in case the request contains an
-	 * {@code X-Forwarded-Ssl} header
+	 * {@code X-Forwarded-Ssl} header. The base URI is only calculated once per request and stored as request attribute
+	 * for subsequent calls. Forwarded and included requests are not cached as they see a different servlet path.
 	 * 
 	 * @return
 	 */
 	static UriComponentsBuilder getBuilder() {
 
-		HttpServletRequest request = getCurrentRequest();
+		Sample sample = HypermediaMetricsHolder.getMetrics().start(Operation.BASE_URI);
+
+		try {
+
+			HttpServletRequest request = getCurrentRequest();
+
+			if (isDispatched(request)) {
+				return createBuilder(request);
+			}
+
+			Object attribute = request.getAttribute(BASE_URI_ATTRIBUTE);
+
+			if (attribute instanceof BaseUri) {
+				return ((BaseUri) attribute).toBuilder();
+			}
+
+			BaseUri baseUri = new BaseUri(createBuilder(request).build());
+			request.setAttribute(BASE_URI_ATTRIBUTE, baseUri);
+
+			return baseUri.toBuilder();
+
+		} finally {
+			sample.stop();
+		}
+	}
+
+	/**
+	 * Returns whether the given {@link HttpServletRequest} is processed as part of a
+	 * {@link javax.servlet.RequestDispatcher} forward or include.
+	 * 
+	 * @param request must not be {@literal null}.
+	 * @return
+	 */
+	private static boolean isDispatched(HttpServletRequest request) {
+		return request.getAttribute(WebUtils.FORWARD_REQUEST_URI_ATTRIBUTE) != null
+				|| request.getAttribute(WebUtils.INCLUDE_REQUEST_URI_ATTRIBUTE) != null;
+	}
+
+	/**
+	 * Creates a {@link UriComponentsBuilder} for the given {@link HttpServletRequest} considering the
+	 * {@code X-Forwarded-Host} and {@code X-Forwarded-Ssl} headers.
+	 * 
+	 * @param request must not be {@literal null}.
+	 * @return
+	 */
+	private static UriComponentsBuilder createBuilder(HttpServletRequest request) {
+
 		ServletUriComponentsBuilder builder = ServletUriComponentsBuilder.fromServletMapping(request);
 
 		String forwardedSsl = request.getHeader("X-Forwarded-Ssl");
@@ -212,4 +267,40 @@ public class ControllerLinkBuilder extends LinkBuilderSupport<ControllerLinkBuil
 		Assert.state(servletRequest != null, "Could not find current HttpServletRequest");
 		return servletRequest;
 	}
+
+	/**
+	 * Immutable representation of the base URI of the current request: scheme, host, port and the path of the servlet
+	 * mapping.
+	 */
+	private static final class BaseUri {
+
+		private final String scheme;
+		private final String host;
+		private final int port;
+		private final String path;
+
+		/**
+		 * Creates a new {@link BaseUri} from the given {@link UriComponents}.
+		 * 
+		 * @param components must not be {@literal null}.
+		 */
+		public BaseUri(UriComponents components) {
+
+			this.scheme = components.getScheme();
+			this.host = components.getHost();
+			this.port = components.getPort();
+			this.path = components.getPath();
+		}
+
+		/**
+		 * Returns a new {@link UriComponentsBuilder} pointing to the base URI.
+		 * 
+		 * @return
+		 */
+		public UriComponentsBuilder toBuilder() {
+
+			UriComponentsBuilder builder = UriComponentsBuilder.newInstance().scheme(scheme).host(host).port(port);
+			return StringUtils.hasText(path) ? builder.path(path) : builder;
+		}
+	}
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2013 the original author or authors.
+ * Copyright 2012-2014 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -18,31 +18,23 @@ package org.springframework.hateoas.mvc;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 
 import org.springframework.core.MethodParameter;
 import org.springframework.hateoas.Link;
-import org.springframework.hateoas.MethodLinkBuilderFactory;
-import org.springframework.hateoas.core.AnnotationAttribute;
-import org.springframework.hateoas.core.AnnotationMappingDiscoverer;
 import org.springframework.hateoas.core.DummyInvocationUtils.LastInvocationAware;
 import org.springframework.hateoas.core.DummyInvocationUtils.MethodInvocation;
+import org.springframework.hateoas.core.HypermediaMetrics.Operation;
+import org.springframework.hateoas.core.HypermediaMetrics.Sample;
+import org.springframework.hateoas.core.HypermediaMetricsHolder;
 import org.springframework.hateoas.core.LinkBuilderSupport;
-import org.springframework.hateoas.core.MappingDiscoverer;
 import org.springframework.hateoas.core.MethodParameters;
-import org.springframework.hateoas.mvc.AnnotatedParametersParameterAccessor.BoundMethodParameter;
 import org.springframework.util.Assert;
-import org.springframework.web.bind.annotation.PathVariable;
-import org.springframework.web.bind.annotation.RequestMapping;
-import org.springframework.web.bind.annotation.RequestParam;
-import org.springframework.web.util.UriComponents;
+import org.springframework.util.ConcurrentReferenceHashMap;
 import org.springframework.web.util.UriComponentsBuilder;
-import org.springframework.web.util.UriTemplate;
 
 /**
  * Factory for {@link LinkBuilderSupport} instances based on the request mapping annotated on the given controller.
@@ -51,12 +43,9 @@ import org.springframework.web.util.UriTemplate;
  * @author Oliver Gierke
  * @author Dietrich Schulten
  */
-public class ControllerLinkBuilderFactory implements MethodLinkBuilderFactory<ControllerLinkBuilder> {
+public class ControllerLinkBuilderFactory implements MethodLinkRecipeFactory {
 
-	private static final MappingDiscoverer DISCOVERER = new AnnotationMappingDiscoverer(RequestMapping.class);
-	private static final AnnotatedParametersParameterAccessor PATH_VARIABLE_ACCESSOR = new AnnotatedParametersParameterAccessor(
-			new AnnotationAttribute(PathVariable.class));
-	private static final AnnotatedParametersParameterAccessor REQUEST_PARAM_ACCESSOR = new RequestParamParameterAccessor();
+	private final Map<Method, MethodLinkRecipe> recipes = new ConcurrentReferenceHashMap<Method, MethodLinkRecipe>();
 
 	private List<UriComponentsContributor> uriComponentsContributors = new ArrayList<UriComponentsContributor>();
 
@@ -69,6 +58,30 @@ public class ControllerLinkBuilderFactory implements MethodLinkBuilderFactory<Co
 	 */
 	public void setUriComponentsContributors(List<? extends UriComponentsContributor> uriComponentsContributors) {
 		this.uriComponentsContributors = Collections.unmodifiableList(uriComponentsContributors);
+		this.recipes.clear();
+	}
+
+	/**
+	 * Returns the {@link MethodLinkRecipe} for the given {@link Method}. Recipes are resolved once per {@link Method} and
+	 * use the currently configured {@link UriComponentsContributor}s.
+	 * 
+	 * @param method must not be {@literal null}.
+	 * @return
+	 * @since 0.10
+	 */
+	@Override
+	public MethodLinkRecipe getRecipe(Method method) {
+
+		Assert.notNull(method, "Method must not be null!");
+
+		MethodLinkRecipe recipe = recipes.get(method);
+
+		if (recipe == null) {
+			recipe = new MethodLinkRecipe(method, uriComponentsContributors);
+			recipes.put(method, recipe);
+		}
+
+		return recipe;
 	}
 
 	/*
@@ -99,41 +112,22 @@ public class ControllerLinkBuilderFactory implements MethodLinkBuilderFactory<Co
 		Assert.isInstanceOf(LastInvocationAware.class, invocationValue);
 		LastInvocationAware invocations = (LastInvocationAware) invocationValue;
 
-		MethodInvocation invocation = invocations.getLastInvocation();
-		Iterator<Object> classMappingParameters = invocations.getObjectParameters();
-		Method method = invocation.getMethod();
+		Sample sample = HypermediaMetricsHolder.getMetrics().start(Operation.LINK_TO);
 
-		String mapping = DISCOVERER.getMapping(method);
-		UriComponentsBuilder builder = ControllerLinkBuilder.getBuilder().path(mapping);
+		try {
 
-		UriTemplate template = new UriTemplate(mapping);
-		Map<String, Object> values = new HashMap<String, Object>();
+			MethodInvocation invocation = invocations.getLastInvocation();
+			Object[] arguments = invocation.getArguments();
+			MethodLinkRecipe recipe = getRecipe(invocation.getMethod());
 
-		Iterator<String> names = template.getVariableNames().iterator();
-		while (classMappingParameters.hasNext()) {
-			values.put(names.next(), classMappingParameters.next());
-		}
-
-		for (BoundMethodParameter parameter : PATH_VARIABLE_ACCESSOR.getBoundParameters(invocation)) {
-			values.put(parameter.getVariableName(), parameter.asString());
-		}
+			UriComponentsBuilder builder = recipe.createBuilder(arguments);
+			Map<String, Object> values = recipe.getUriVariables(invocations.getObjectParameters(), arguments);
 
-		for (BoundMethodParameter parameter : REQUEST_PARAM_ACCESSOR.getBoundParameters(invocation)) {
+			return MethodLinkRecipe.toLinkBuilder(applyUriComponentsContributer(builder, invocation), values);
 
-			Object value = parameter.getValue();
-			String key = parameter.getVariableName();
-
-			if (value instanceof Collection) {
-				for (Object element : (Collection<?>) value) {
-					builder.queryParam(key, element);
-				}
-			} else {
-				builder.queryParam(key, parameter.asString());
-			}
+		} finally {
+			sample.stop();
 		}
-
-		UriComponents components = applyUriComponentsContributer(builder, invocation).buildAndExpand(values);
-		return new ControllerLinkBuilder(UriComponentsBuilder.fromUri(components.toUri()));
 	}
 
 	/* 
@@ -154,42 +148,19 @@ public class ControllerLinkBuilderFactory implements MethodLinkBuilderFactory<Co
 	 */
 	protected UriComponentsBuilder applyUriComponentsContributer(UriComponentsBuilder builder, MethodInvocation invocation) {
 
-		MethodParameters parameters = new MethodParameters(invocation.getMethod());
+		MethodParameters parameters = MethodParameters.of(invocation.getMethod());
 		Iterator<Object> parameterValues = Arrays.asList(invocation.getArguments()).iterator();
 
 		for (MethodParameter parameter : parameters.getParameters()) {
 			Object parameterValue = parameterValues.next();
+			MethodParameter copy = MethodParameters.copyOf(parameter);
 			for (UriComponentsContributor contributor : uriComponentsContributors) {
-				if (contributor.supportsParameter(parameter)) {
-					contributor.enhance(builder, parameter, parameterValue);
+				if (contributor.supportsParameter(copy)) {
+					contributor.enhance(builder, copy, parameterValue);
 				}
 			}
 		}
 
 		return builder;
 	}
-
-	/**
-	 * Custom extension of {@link AnnotatedParametersParameterAccessor} for {@link RequestParam} to allow {@literal null}
-	 * values handed in for optional request parameters.
-	 * 
-	 * @author Oliver Gierke
-	 */
-	private static class RequestParamParameterAccessor extends AnnotatedParametersParameterAccessor {
-
-		public RequestParamParameterAccessor() {
-			super(new AnnotationAttribute(RequestParam.class));
-		}
-
-		/* 
-		 * (non-Javadoc)
-		 * @see org.springframework.hateoas.mvc.AnnotatedParametersParameterAccessor#verifyParameterValue(org.springframework.core.MethodParameter, java.lang.Object)
-		 */
-		@Override
-		protected Object verifyParameterValue(MethodParameter parameter, Object value) {
-
-			RequestParam annotation = parameter.getParameterAnnotation(RequestParam.class);
-			return annotation.required() ? super.verifyParameterValue(parameter, value) : value;
-		}
-	}
 }
@@ -15,8 +15,6 @@
  */
 package org.springframework.hateoas.mvc;
 
-import static org.springframework.hateoas.mvc.ControllerLinkBuilder.*;
-
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -24,7 +22,6 @@ import java.util.List;
 import org.springframework.hateoas.Identifiable;
 import org.springframework.hateoas.ResourceAssembler;
 import org.springframework.hateoas.ResourceSupport;
-import org.springframework.util.Assert;
 
 /**
  * Base class to implement {@link ResourceAssembler}s. Will automate {@link ResourceSupport} instance creation and make
@@ -35,8 +32,6 @@ import org.springframework.util.Assert;
 public abstract class IdentifiableResourceAssemblerSupport<T extends Identifiable<?>, D extends ResourceSupport>
 		extends ResourceAssemblerSupport<T, D> {
 
-	private final Class<?> controllerClass;
-
 	/**
 	 * Creates a new {@link ResourceAssemblerSupport} using the given controller class and resource type.
 	 * 
@@ -46,7 +41,6 @@ public abstract class IdentifiableResourceAssemblerSupport<T extends Identifiabl
 	public IdentifiableResourceAssemblerSupport(Class<?> controllerClass, Class<D> resourceType) {
 
 		super(controllerClass, resourceType);
-		this.controllerClass = controllerClass;
 	}
 
 	/**
@@ -65,13 +59,7 @@ public abstract class IdentifiableResourceAssemblerSupport<T extends Identifiabl
 
 	@Override
 	protected D createResourceWithId(Object id, T entity, Object... parameters) {
-
-		Assert.notNull(entity);
-		Assert.notNull(id);
-
-		D instance = instantiateResource(entity);
-		instance.add(linkTo(controllerClass, unwrapIdentifyables(parameters)).slash(id).withSelfRel());
-		return instance;
+		return super.createResourceWithId(id, entity, unwrapIdentifyables(parameters));
 	}
 
 	/**
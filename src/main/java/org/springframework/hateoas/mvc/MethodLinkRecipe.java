@@ -0,0 +1,322 @@
+/*
+ * Copyright 2014 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.mvc;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.core.AnnotationAttribute;
+import org.springframework.hateoas.core.AnnotationMappingDiscoverer;
+import org.springframework.hateoas.core.MappingDiscoverer;
+import org.springframework.hateoas.core.MethodParameters;
+import org.springframework.hateoas.mvc.AnnotatedParametersParameterAccessor.BoundMethodParameter;
+import org.springframework.hateoas.mvc.AnnotatedParametersParameterAccessor.ParameterBinding;
+import org.springframework.util.Assert;
+import org.springframework.util.ReflectionUtils;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.util.UriComponents;
+import org.springframework.web.util.UriComponentsBuilder;
+import org.springframework.web.util.UriTemplate;
+
+/**
+ * A pre-resolved recipe to build {@link Link}s pointing to a Spring MVC controller method. Resolves the request
+ * mapping, its template variables as well as the {@link PathVariable} and {@link RequestParam} bindings of the
+ * {@link Method} once, so that building a link only requires handing in the method arguments. In contrast to
+ * {@link ControllerLinkBuilder#linkTo(Object)} no dummy invocation has to be recorded through a proxy. Instances are
+ * immutable and can thus be shared and reused.
+ * 
+ * <pre>
+ * MethodLinkRecipe recipe = MethodLinkRecipe.forMethod(CustomerController.class, "showAddresses", Long.class);
+ * Link link = recipe.linkTo(2L).withRel("addresses");
+ * </pre>
+ * 
+ * Values for template variables of a type-level mapping are handed in through
+ * {@link #withClassMappingParameters(Object...)}.
+ * 
+ * @since 0.10
+ * @see MethodLinkRecipeFactory#getRecipe(Method)
+ */
+public class MethodLinkRecipe {
+
+	private static final MappingDiscoverer DISCOVERER = new AnnotationMappingDiscoverer(RequestMapping.class);
+	private static final AnnotatedParametersParameterAccessor PATH_VARIABLE_ACCESSOR = new AnnotatedParametersParameterAccessor(
+			new AnnotationAttribute(PathVariable.class));
+	private static final AnnotatedParametersParameterAccessor REQUEST_PARAM_ACCESSOR = new RequestParamParameterAccessor();
+
+	private final Method method;
+	private final String mapping;
+	private final List<String> variableNames;
+	private final List<MethodParameter> parameters;
+	private final List<ParameterBinding> pathVariables;
+	private final List<ParameterBinding> requestParameters;
+	private final List<UriComponentsContributor> uriComponentsContributors;
+	private final List<Object> classMappingParameters;
+
+	/**
+	 * Creates a new {@link MethodLinkRecipe} for the given {@link Method}.
+	 * 
+	 * @param method must not be {@literal null}.
+	 */
+	public MethodLinkRecipe(Method method) {
+		this(method, Collections.<UriComponentsContributor> emptyList());
+	}
+
+	/**
+	 * Creates a new {@link MethodLinkRecipe} for the given {@link Method} and {@link UriComponentsContributor}s.
+	 * 
+	 * @param method must not be {@literal null}.
+	 * @param uriComponentsContributors must not be {@literal null}.
+	 */
+	public MethodLinkRecipe(Method method, List<? extends UriComponentsContributor> uriComponentsContributors) {
+
+		Assert.notNull(method, "Method must not be null!");
+		Assert.notNull(uriComponentsContributors, "UriComponentsContributors must not be null!");
+
+		this.method = method;
+		this.mapping = DISCOVERER.getMapping(method);
+		this.variableNames = Collections.unmodifiableList(new UriTemplate(mapping).getVariableNames());
+		this.parameters = MethodParameters.of(method).getParameters();
+		this.pathVariables = Collections.unmodifiableList(PATH_VARIABLE_ACCESSOR.getBindings(method));
+		this.requestParameters = Collections.unmodifiableList(REQUEST_PARAM_ACCESSOR.getBindings(method));
+		this.uriComponentsContributors = Collections
+				.unmodifiableList(new ArrayList<UriComponentsContributor>(uriComponentsContributors));
+		this.classMappingParameters = Collections.emptyList();
+	}
+
+	/**
+	 * Copy constructor to create a {@link MethodLinkRecipe} from the given one using the given values for the template
+	 * variables of the type-level mapping.
+	 * 
+	 * @param source must not be {@literal null}.
+	 * @param classMappingParameters must not be {@literal null}.
+	 */
+	private MethodLinkRecipe(MethodLinkRecipe source, List<Object> classMappingParameters) {
+
+		this.method = source.method;
+		this.mapping = source.mapping;
+		this.variableNames = source.variableNames;
+		this.parameters = source.parameters;
+		this.pathVariables = source.pathVariables;
+		this.requestParameters = source.requestParameters;
+		this.uriComponentsContributors = source.uriComponentsContributors;
+		this.classMappingParameters = classMappingParameters;
+	}
+
+	/**
+	 * Creates a new {@link MethodLinkRecipe} for the method with the given name and parameter types declared on the given
+	 * controller type.
+	 * 
+	 * @param controller must not be {@literal null}.
+	 * @param name must not be {@literal null} or empty.
+	 * @param parameterTypes the parameter types of the method to look up.
+	 * @return
+	 * @throws IllegalArgumentException in case no method with the given name and parameter types can be found.
+	 */
+	public static MethodLinkRecipe forMethod(Class<?> controller, String name, Class<?>... parameterTypes) {
+
+		Assert.notNull(controller, "Controller type must not be null!");
+		Assert.hasText(name, "Method name must not be null or empty!");
+
+		Method method = ReflectionUtils.findMethod(controller, name, parameterTypes);
+
+		if (method == null) {
+			throw new IllegalArgumentException(String.format("No method %s found on %s!", name, controller.getName()));
+		}
+
+		return new MethodLinkRecipe(method);
+	}
+
+	/**
+	 * Returns the {@link Method} the recipe builds links for.
+	 * 
+	 * @return
+	 */
+	public Method getMethod() {
+		return method;
+	}
+
+	/**
+	 * Returns a {@link MethodLinkRecipe} expanding the template variables of the type-level mapping with the given
+	 * values in the order of their declaration. This is the equivalent of the parameters handed to
+	 * {@link ControllerLinkBuilder#methodOn(Class, Object...)}. The current instance is not changed.
+	 * 
+	 * <pre>
+	 * &#064;RequestMapping("/people/{personId}/addresses")
+	 * class AddressController {
+	 * 
+	 *   &#064;RequestMapping("/{country}")
+	 *   HttpEntity&lt;Address&gt; showAddress(@PathVariable String country) { ... }
+	 * }
+	 * 
+	 * Link link = recipe.withClassMappingParameters(42L).linkTo("DE").withSelfRel();
+	 * </pre>
+	 * 
+	 * @param parameters the values for the template variables of the type-level mapping, must not be {@literal null}.
+	 * @return
+	 */
+	public MethodLinkRecipe withClassMappingParameters(Object... parameters) {
+
+		Assert.notNull(parameters, "Class mapping parameters must not be null!");
+		return new MethodLinkRecipe(this, Collections.unmodifiableList(Arrays.asList(parameters.clone())));
+	}
+
+	/**
+	 * Creates a {@link ControllerLinkBuilder} pointing to the URI mapped to the {@link Method} expanded with the given
+	 * method arguments. The arguments have to be given in the order of the method's parameters.
+	 * 
+	 * @param arguments the arguments to the method, must not be {@literal null}.
+	 * @return
+	 */
+	public ControllerLinkBuilder linkTo(Object... arguments) {
+
+		Assert.notNull(arguments, "Arguments must not be null!");
+		Assert.isTrue(arguments.length == parameters.size(), String.format(
+				"Invalid number of arguments! Expected %s but got %s for method %s!", parameters.size(), arguments.length,
+				method));
+
+		UriComponentsBuilder builder = createBuilder(arguments);
+		Map<String, Object> values = getUriVariables(classMappingParameters.iterator(), arguments);
+
+		return toLinkBuilder(applyUriComponentsContributors(builder, arguments), values);
+	}
+
+	/**
+	 * Creates a {@link UriComponentsBuilder} based on the current request, pointing to the mapping of the method and
+	 * carrying all query parameters bound from the given arguments.
+	 * 
+	 * @param arguments must not be {@literal null}.
+	 * @return
+	 */
+	UriComponentsBuilder createBuilder(Object[] arguments) {
+
+		UriComponentsBuilder builder = ControllerLinkBuilder.getBuilder().path(mapping);
+
+		for (BoundMethodParameter parameter : REQUEST_PARAM_ACCESSOR.getBoundParameters(requestParameters, arguments)) {
+
+			Object value = parameter.getValue();
+			String key = parameter.getVariableName();
+
+			if (value instanceof Collection) {
+				for (Object element : (Collection<?>) value) {
+					builder.queryParam(key, element);
+				}
+			} else {
+				builder.queryParam(key, parameter.asString());
+			}
+		}
+
+		return builder;
+	}
+
+	/**
+	 * Returns the values to expand the template variables of the mapping with.
+	 * 
+	 * @param classMappingParameters the values for the variables of the type-level mapping, must not be {@literal null}.
+	 * @param arguments the method arguments, must not be {@literal null}.
+	 * @return
+	 */
+	Map<String, Object> getUriVariables(Iterator<?> classMappingParameters, Object[] arguments) {
+
+		Map<String, Object> values = new HashMap<String, Object>();
+		Iterator<String> names = variableNames.iterator();
+
+		while (classMappingParameters.hasNext()) {
+			values.put(names.next(), classMappingParameters.next());
+		}
+
+		for (BoundMethodParameter parameter : PATH_VARIABLE_ACCESSOR.getBoundParameters(pathVariables, arguments)) {
+			values.put(parameter.getVariableName(), parameter.asString());
+		}
+
+		return values;
+	}
+
+	/**
+	 * Expands the given {@link UriComponentsBuilder} with the given values into a {@link ControllerLinkBuilder}.
+	 * 
+	 * @param builder must not be {@literal null}.
+	 * @param values must not be {@literal null}.
+	 * @return
+	 */
+	static ControllerLinkBuilder toLinkBuilder(UriComponentsBuilder builder, Map<String, Object> values) {
+
+		UriComponents components = builder.buildAndExpand(values);
+		return new ControllerLinkBuilder(UriComponentsBuilder.fromUri(components.toUri()));
+	}
+
+	/**
+	 * Applies the configured {@link UriComponentsContributor}s to the given {@link UriComponentsBuilder}.
+	 * 
+	 * @param builder must not be {@literal null}.
+	 * @param arguments must not be {@literal null}.
+	 * @return
+	 */
+	private UriComponentsBuilder applyUriComponentsContributors(UriComponentsBuilder builder, Object[] arguments) {
+
+		if (uriComponentsContributors.isEmpty()) {
+			return builder;
+		}
+
+		for (MethodParameter parameter : parameters) {
+
+			Object parameterValue = arguments[parameter.getParameterIndex()];
+
+			// Shared instances must not be exposed to contributors
+			MethodParameter copy = MethodParameters.copyOf(parameter);
+
+			for (UriComponentsContributor contributor : uriComponentsContributors) {
+				if (contributor.supportsParameter(copy)) {
+					contributor.enhance(builder, copy, parameterValue);
+				}
+			}
+		}
+
+		return builder;
+	}
+
+	/**
+	 * Custom extension of {@link AnnotatedParametersParameterAccessor} for {@link RequestParam} to allow {@literal null}
+	 * values handed in for optional request parameters.
+	 */
+	private static class RequestParamParameterAccessor extends AnnotatedParametersParameterAccessor {
+
+		public RequestParamParameterAccessor() {
+			super(new AnnotationAttribute(RequestParam.class));
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.hateoas.mvc.AnnotatedParametersParameterAccessor#verifyParameterValue(org.springframework.core.MethodParameter, java.lang.Object)
+		 */
+		@Override
+		protected Object verifyParameterValue(MethodParameter parameter, Object value) {
+
+			RequestParam annotation = parameter.getParameterAnnotation(RequestParam.class);
+			return annotation.required() ? super.verifyParameterValue(parameter, value) : value;
+		}
+	}
+}
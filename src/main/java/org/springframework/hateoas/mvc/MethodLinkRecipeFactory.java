@@ -0,0 +1,38 @@
+/*
+ * Copyright 2014 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.mvc;
+
+import java.lang.reflect.Method;
+
+import org.springframework.hateoas.MethodLinkBuilderFactory;
+
+/**
+ * {@link MethodLinkBuilderFactory} that is able to hand out reusable {@link MethodLinkRecipe}s for controller methods
+ * so that the mapping of a method only has to be inspected once for all links pointing to it.
+ * 
+ * @since 0.10
+ */
+public interface MethodLinkRecipeFactory extends MethodLinkBuilderFactory<ControllerLinkBuilder> {
+
+	/**
+	 * Returns the {@link MethodLinkRecipe} for the given {@link Method}. Implementations are expected to cache the
+	 * recipes per {@link Method}.
+	 * 
+	 * @param method must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	MethodLinkRecipe getRecipe(Method method);
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2013 the original author or authors.
+ * Copyright 2012-2014 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -18,12 +18,26 @@ package org.springframework.hateoas.mvc;
 import static org.springframework.hateoas.mvc.ControllerLinkBuilder.*;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
 
 import org.springframework.beans.BeanUtils;
+import org.springframework.hateoas.Identifiable;
+import org.springframework.hateoas.Link;
 import org.springframework.hateoas.ResourceAssembler;
 import org.springframework.hateoas.ResourceSupport;
 import org.springframework.util.Assert;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
 
 /**
  * Base class to implement {@link ResourceAssembler}s. Will automate {@link ResourceSupport} instance creation and make
@@ -33,9 +47,17 @@ import org.springframework.util.Assert;
  */
 public abstract class ResourceAssemblerSupport<T, D extends ResourceSupport> implements ResourceAssembler<T, D> {
 
+	private static final int CHUNKS_PER_PROCESSOR = 4;
+
 	private final Class<?> controllerClass;
 	private final Class<D> resourceType;
 
+	/**
+	 * The self link prefixes resolved during the current {@link #toResources(Iterable)} call keyed by the parameters used
+	 * to expand the controller mapping.
+	 */
+	private final ThreadLocal<Map<List<Object>, String>> selfLinkPrefixes = new ThreadLocal<Map<List<Object>, String>>();
+
 	/**
 	 * Creates a new {@link ResourceAssemblerSupport} using the given controller class and resource type.
 	 * 
@@ -52,7 +74,8 @@ public abstract class ResourceAssemblerSupport<T, D extends ResourceSupport> imp
 	}
 
 	/**
-	 * Converts all given entities into resources.
+	 * Converts all given entities into resources. Self links created via {@link #createResourceWithId(Object, Object)}
+	 * while converting share a prefix pointing to the controller that is only resolved once per call.
 	 * 
 	 * @see #toResource(Object)
 	 * @param entities must not be {@literal null}.
@@ -61,15 +84,165 @@ public abstract class ResourceAssemblerSupport<T, D extends ResourceSupport> imp
 	public List<D> toResources(Iterable<? extends T> entities) {
 
 		Assert.notNull(entities);
-		List<D> result = new ArrayList<D>();
+
+		List<D> result = entities instanceof Collection ? new ArrayList<D>(((Collection<?>) entities).size())
+				: new ArrayList<D>();
+
+		return toResources(entities, new HashMap<List<Object>, String>(), result);
+	}
+
+	/**
+	 * Converts all given entities into resources using the given {@link Executor}. The entities are split into chunks
+	 * converted concurrently, the returned {@link List} contains the resources in the order of the given entities. The
+	 * current {@link RequestAttributes} are exposed to the threads executing the conversion so that links can be built
+	 * as usual. Use this for large collections whose conversion is CPU-bound, e.g. as each resource gets a lot of links
+	 * added.
+	 * <p>
+	 * Note, that {@link #toResource(Object)} is invoked on the threads of the given {@link Executor}, so overriding
+	 * implementations have to be thread-safe and must not rely on thread-bound state other than the
+	 * {@link RequestAttributes}. The current {@link javax.servlet.http.HttpServletRequest} is shared by all of these
+	 * threads and read concurrently, so it must not be modified until this method returns. If the conversion of a chunk
+	 * fails or the {@link Executor} rejects one, all chunks not completed yet are cancelled before the exception is
+	 * rethrown.
+	 * 
+	 * @see #toResource(Object)
+	 * @param entities must not be {@literal null}.
+	 * @param executor must not be {@literal null}.
+	 * @return
+	 * @since 0.10
+	 */
+	public List<D> toResources(Iterable<? extends T> entities, Executor executor) {
+
+		Assert.notNull(entities, "Entities must not be null!");
+		Assert.notNull(executor, "Executor must not be null!");
+
+		List<T> source = new ArrayList<T>();
 
 		for (T entity : entities) {
-			result.add(toResource(entity));
+			source.add(entity);
+		}
+
+		final RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+		final Map<List<Object>, String> prefixes = new ConcurrentHashMap<List<Object>, String>();
+
+		// Resolve the base URI upfront so that worker threads only read the request
+		if (attributes instanceof ServletRequestAttributes) {
+			ControllerLinkBuilder.getBuilder();
+		}
+
+		int chunks = Runtime.getRuntime().availableProcessors() * CHUNKS_PER_PROCESSOR;
+		int chunkSize = Math.max(1, (source.size() + chunks - 1) / chunks);
+		List<FutureTask<List<D>>> tasks = new ArrayList<FutureTask<List<D>>>(chunks);
+		boolean completed = false;
+
+		try {
+
+			for (int start = 0; start < source.size(); start += chunkSize) {
+
+				final List<T> chunk = source.subList(start, Math.min(start + chunkSize, source.size()));
+
+				FutureTask<List<D>> task = new FutureTask<List<D>>(new Callable<List<D>>() {
+
+					@Override
+					public List<D> call() throws Exception {
+
+						RequestAttributes previousAttributes = RequestContextHolder.getRequestAttributes();
+						RequestContextHolder.setRequestAttributes(attributes);
+
+						try {
+							return toResources(chunk, prefixes, new ArrayList<D>(chunk.size()));
+						} finally {
+							RequestContextHolder.setRequestAttributes(previousAttributes);
+						}
+					}
+				});
+
+				tasks.add(task);
+				executor.execute(task);
+			}
+
+			List<D> result = new ArrayList<D>(source.size());
+
+			for (FutureTask<List<D>> task : tasks) {
+				result.addAll(getResult(task));
+			}
+
+			completed = true;
+			return result;
+
+		} finally {
+
+			// Don't leave chunks running against the request once the conversion failed
+			if (!completed) {
+				for (FutureTask<List<D>> task : tasks) {
+					task.cancel(true);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Converts the given entities into resources added to the given result {@link List} while exposing the given self
+	 * link prefixes to {@link #createSelfLink(Object, Object[])}.
+	 * 
+	 * @param entities must not be {@literal null}.
+	 * @param prefixes must not be {@literal null}.
+	 * @param result must not be {@literal null}.
+	 * @return
+	 */
+	private List<D> toResources(Iterable<? extends T> entities, Map<List<Object>, String> prefixes, List<D> result) {
+
+		Map<List<Object>, String> previousPrefixes = selfLinkPrefixes.get();
+		selfLinkPrefixes.set(prefixes);
+
+		try {
+
+			for (T entity : entities) {
+				result.add(toResource(entity));
+			}
+
+		} finally {
+
+			if (previousPrefixes == null) {
+				selfLinkPrefixes.remove();
+			} else {
+				selfLinkPrefixes.set(previousPrefixes);
+			}
 		}
 
 		return result;
 	}
 
+	/**
+	 * Waits for the given {@link FutureTask} to complete and returns its result. Rethrows exceptions that occurred
+	 * during the conversion.
+	 * 
+	 * @param task must not be {@literal null}.
+	 * @return
+	 */
+	private static <S> S getResult(FutureTask<S> task) {
+
+		try {
+			return task.get();
+		} catch (InterruptedException o_O) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while waiting for resources to be assembled!", o_O);
+		} catch (ExecutionException o_O) {
+
+			Throwable cause = o_O.getCause();
+
+			if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			}
+
+			if (cause instanceof Error) {
+				throw (Error) cause;
+			}
+
+			throw new IllegalStateException("Failed to assemble resources!", cause);
+		}
+	}
+
 	/**
 	 * Creates a new resource with a self link to the given id.
 	 * 
@@ -87,10 +260,124 @@ public abstract class ResourceAssemblerSupport<T, D extends ResourceSupport> imp
 		Assert.notNull(id);
 
 		D instance = instantiateResource(entity);
-		instance.add(linkTo(controllerClass, parameters).slash(id).withSelfRel());
+		instance.add(createSelfLink(id, parameters));
 		return instance;
 	}
 
+	/**
+	 * Creates the self link for the given id. While converting entities in {@link #toResources(Iterable)}, ids
+	 * consisting of unreserved characters only are simply appended to a prefix resolved once for all entities. Prefixes
+	 * are only reused for parameters that are simple values, as arbitrary objects can't be reliably used as cache keys.
+	 * 
+	 * @param id must not be {@literal null}.
+	 * @param parameters must not be {@literal null}.
+	 * @return
+	 */
+	private Link createSelfLink(Object id, Object[] parameters) {
+
+		Map<List<Object>, String> prefixes = selfLinkPrefixes.get();
+		Object value = unwrap(id);
+
+		if (prefixes == null || value == null || !hasSimpleValuesOnly(parameters) || !isAppendable(value.toString())) {
+			return linkTo(controllerClass, parameters).slash(id).withSelfRel();
+		}
+
+		String idString = value.toString();
+
+		List<Object> key = Arrays.asList(parameters);
+		String prefix = prefixes.get(key);
+
+		if (prefix == null) {
+			prefix = getSelfLinkPrefix(parameters);
+			prefixes.put(key, prefix);
+		}
+
+		return prefix.length() == 0 ? linkTo(controllerClass, parameters).slash(id).withSelfRel() : new Link(
+				prefix.concat(idString));
+	}
+
+	/**
+	 * Unwraps the given id the same way {@link org.springframework.hateoas.core.LinkBuilderSupport#slash(Object)} does,
+	 * i.e. resolves the id of {@link Identifiable}s.
+	 * 
+	 * @param id can be {@literal null}.
+	 * @return
+	 */
+	private static Object unwrap(Object id) {
+
+		Object result = id;
+
+		while (result instanceof Identifiable) {
+			result = ((Identifiable<?>) result).getId();
+		}
+
+		return result;
+	}
+
+	/**
+	 * Returns whether all given parameters are simple values with value based {@link Object#equals(Object)} and
+	 * {@link Object#hashCode()} implementations.
+	 * 
+	 * @param parameters must not be {@literal null}.
+	 * @return
+	 */
+	private static boolean hasSimpleValuesOnly(Object[] parameters) {
+
+		for (Object parameter : parameters) {
+			if (parameter == null || !BeanUtils.isSimpleValueType(parameter.getClass())) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * Returns the URI of the controller ending with a slash or an empty {@link String} in case it can't be used as
+	 * prefix for plain path segments.
+	 * 
+	 * @param parameters must not be {@literal null}.
+	 * @return
+	 */
+	private String getSelfLinkPrefix(Object[] parameters) {
+
+		String base = linkTo(controllerClass, parameters).toString();
+
+		if (base.indexOf('?') != -1 || base.indexOf('#') != -1) {
+			return "";
+		}
+
+		return base.endsWith("/") ? base : base.concat("/");
+	}
+
+	/**
+	 * Returns whether the given id can be appended to the self link prefix as is, i.e. it doesn't need to be encoded and
+	 * isn't a relative path segment.
+	 * 
+	 * @param id must not be {@literal null}.
+	 * @return
+	 */
+	private static boolean isAppendable(String id) {
+
+		if (id.length() == 0 || id.equals(".") || id.equals("..")) {
+			return false;
+		}
+
+		for (int i = 0; i < id.length(); i++) {
+
+			char c = id.charAt(i);
+
+			boolean unreserved = c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z' || c >= '0' && c <= '9' || c == '-'
+					|| c == '.' || c == '_' || c == '~';
+
+			if (!unreserved) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
 	/**
 	 * Instantiates the resource object. Default implementation will assume a no-arg constructor and use reflection but
 	 * can be overridden to manually set up the object instance initially (e.g. to improve performance if this becomes an
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2014 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link ConstantLink}.
+ */
+public class ConstantLinkUnitTest {
+
+	@Test
+	public void returnsSameInstanceForEqualLinks() {
+
+		ConstantLink link = ConstantLink.of("/profile", "profile");
+
+		assertThat(ConstantLink.of("/profile", "profile"), is(sameInstance(link)));
+		assertThat(ConstantLink.of(new Link("/profile", "profile")), is(sameInstance(link)));
+		assertThat(ConstantLink.of(link), is(sameInstance(link)));
+	}
+
+	@Test
+	public void isEqualToRegularLink() {
+
+		Link link = new Link("/profile", "profile");
+		ConstantLink constant = ConstantLink.of(link);
+
+		assertThat(constant, is(link));
+		assertThat(link, is((Link) constant));
+		assertThat(constant.hashCode(), is(link.hashCode()));
+	}
+
+	@Test
+	public void exposesSameHeaderValueAsRegularLink() {
+
+		Link link = new Link("/docs{?rel}", "docs");
+		ConstantLink constant = ConstantLink.of(link);
+
+		assertThat(constant.toString(), is(link.toString()));
+		assertThat(constant.isTemplated(), is(true));
+		assertThat(Link.valueOf(constant.toString()), is((Link) constant));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void rejectsNullLink() {
+		ConstantLink.of(null);
+	}
+}
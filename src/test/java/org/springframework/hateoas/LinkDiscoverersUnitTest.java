@@ -17,6 +17,7 @@ package org.springframework.hateoas;
 
 import static org.hamcrest.CoreMatchers.*;
 import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
 
 import java.util.Arrays;
 
@@ -49,6 +50,36 @@ public class LinkDiscoverersUnitTest {
 		assertThat(registry.getPluginFor(MediaType.APPLICATION_JSON), is(high));
 	}
 
+	@Test
+	@SuppressWarnings("unchecked")
+	public void cachesLinkDiscovererPerMediaType() {
+
+		LinkDiscoverer discoverer = new LowPriorityLinkDiscoverer();
+		PluginRegistry<LinkDiscoverer, MediaType> registry = mock(PluginRegistry.class);
+		when(registry.getPluginFor(MediaType.APPLICATION_JSON)).thenReturn(discoverer);
+
+		LinkDiscoverers discoverers = new LinkDiscoverers(registry);
+
+		assertThat(discoverers.getLinkDiscovererFor(MediaType.APPLICATION_JSON), is(discoverer));
+		assertThat(discoverers.getLinkDiscovererFor("application/json"), is(discoverer));
+		assertThat(discoverers.getLinkDiscovererFor("application/json"), is(discoverer));
+
+		verify(registry, times(1)).getPluginFor(MediaType.APPLICATION_JSON);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void cachesAbsentLinkDiscoverer() {
+
+		PluginRegistry<LinkDiscoverer, MediaType> registry = mock(PluginRegistry.class);
+		LinkDiscoverers discoverers = new LinkDiscoverers(registry);
+
+		assertThat(discoverers.getLinkDiscovererFor(MediaType.TEXT_PLAIN), is(nullValue()));
+		assertThat(discoverers.getLinkDiscovererFor(MediaType.TEXT_PLAIN), is(nullValue()));
+
+		verify(registry, times(1)).getPluginFor(MediaType.TEXT_PLAIN);
+	}
+
 	@Order(20)
 	static class LowPriorityLinkDiscoverer extends JsonPathLinkDiscoverer {
 
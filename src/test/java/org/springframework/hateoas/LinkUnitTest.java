@@ -18,6 +18,8 @@ package org.springframework.hateoas;
 import static org.hamcrest.Matchers.*;
 import static org.junit.Assert.*;
 
+import java.util.Collections;
+
 import org.junit.Test;
 
 /**
@@ -121,6 +123,49 @@ public class LinkUnitTest {
 		Link.valueOf("foo");
 	}
 
+	@Test
+	public void parsesQuotedAndTokenAttributeValues() {
+
+		Link reference = new Link("/something", "foo");
+
+		assertThat(Link.valueOf("</something>; rel=foo; type=\"text/html\"; hreflang=en"), is(reference));
+		assertThat(Link.valueOf("</something>;title=\"Some; title, with \\\"quotes\\\"\";rel=\"foo\""), is(reference));
+		assertThat(Link.valueOf("</something>;title*=UTF-8'de'n%c3%a4chstes;REL=\"foo\""), is(reference));
+	}
+
+	@Test
+	public void parsesRelationTypesContainingNonAlphanumericCharacters() {
+		assertThat(Link.valueOf("</something>;rel=\"http://example.com/rels/foo\""), is(new Link("/something",
+				"http://example.com/rels/foo")));
+	}
+
+	@Test
+	public void usesFirstRelationTypeAndFirstRelAttribute() {
+
+		assertThat(Link.valueOf("</something>;rel=\"next last\""), is(new Link("/something", Link.REL_NEXT)));
+		assertThat(Link.valueOf("</something>;rel=\"foo\";rel=\"bar\""), is(new Link("/something", "foo")));
+	}
+
+	@Test
+	public void keepsCommasAndSemicolonsInUri() {
+		assertThat(Link.valueOf("</foo;a=b,c>;rel=\"foo\""), is(new Link("/foo;a=b,c", "foo")));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void rejectsUnterminatedQuotedValue() {
+		Link.valueOf("</something>;rel=\"foo");
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void rejectsUnterminatedUri() {
+		Link.valueOf("</something;rel=\"foo\"");
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void rejectsMultipleLinks() {
+		Link.valueOf("</something>;rel=\"foo\",</somethingElse>;rel=\"bar\"");
+	}
+
 	/**
 	 * @see #137
 	 */
@@ -135,6 +180,14 @@ public class LinkUnitTest {
 		assertThat(link.expand("2"), is(new Link("/foo?page=2")));
 	}
 
+	@Test
+	public void expandsTemplateWithMap() {
+
+		Link link = new Link("/foo/{id}{?page}", "next");
+
+		assertThat(link.expand(Collections.singletonMap("id", 4711)), is(new Link("/foo/4711", "next")));
+	}
+
 	/**
 	 * @see #137
 	 */
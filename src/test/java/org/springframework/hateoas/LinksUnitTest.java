@@ -18,7 +18,9 @@ package org.springframework.hateoas;
 import static org.hamcrest.CoreMatchers.*;
 import static org.junit.Assert.*;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 
 import org.junit.Test;
 import org.springframework.util.StringUtils;
@@ -56,8 +58,68 @@ public class LinksUnitTest {
 		assertThat(Links.valueOf(""), is(Links.NO_LINKS));
 	}
 
+	@Test
+	public void parsesLinksWithCommasInUrisAndAttributes() {
+
+		Links links = Links.valueOf("</foo?a=1,2>; rel=\"foo\"; title=\"One, two\" , </bar>;rel=bar");
+
+		assertThat(links, is(new Links(new Link("/foo?a=1,2", "foo"), new Link("/bar", "bar"))));
+	}
+
+	@Test
+	public void createsLinkPerRelationType() {
+
+		Links links = Links.valueOf("</page/2>;rel=\"next last\"," + FIRST);
+
+		assertThat(links, is(new Links(new Link("/page/2", Link.REL_NEXT), new Link("/page/2", Link.REL_LAST), new Link(
+				"/something", "foo"))));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void rejectsInvalidElement() {
+		Links.valueOf(FIRST + ",foo");
+	}
+
 	@Test
 	public void getSingleLinkByRel() {
 		assertThat(reference.getLink("bar"), is(new Link("/somethingElse", "bar")));
 	}
+
+	@Test
+	public void getLinksOnlyReturnsLinksWithExactlyTheGivenRel() {
+
+		Links links = new Links(new Link("/foo", "foo"), new Link("/barfoo", "barfoo"), new Link("/foo2", "foo"));
+
+		assertThat(links.getLinks("foo"), is(Arrays.asList(new Link("/foo", "foo"), new Link("/foo2", "foo"))));
+	}
+
+	@Test
+	public void looksUpLinksByRelForManyLinks() {
+
+		List<Link> source = new ArrayList<Link>();
+
+		for (int i = 0; i < 20; i++) {
+			source.add(new Link("/foo/" + i, i % 2 == 0 ? "even" : "odd"));
+		}
+
+		Links links = new Links(source);
+
+		assertThat(links.getLink("even"), is(new Link("/foo/0", "even")));
+		assertThat(links.getLinks("odd").size(), is(10));
+		assertThat(links.getLinks("odd").get(9), is(new Link("/foo/19", "odd")));
+		assertThat(links.getLinks("foo").isEmpty(), is(true));
+		assertThat(links.hasLink("foo"), is(false));
+	}
+
+	@Test
+	public void isNotAffectedByChangesToSourceList() {
+
+		List<Link> source = new ArrayList<Link>();
+		source.add(new Link("/foo", "foo"));
+
+		Links links = new Links(source);
+		source.add(new Link("/bar", "bar"));
+
+		assertThat(links.hasLink("bar"), is(false));
+	}
 }
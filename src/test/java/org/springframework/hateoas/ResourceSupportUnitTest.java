@@ -133,4 +133,43 @@ public class ResourceSupportUnitTest {
 
 		TestUtils.assertNotEqualAndDifferentHashCode(left, right);
 	}
+
+	@Test
+	public void looksUpLinksOfResourceWithManyLinks() {
+
+		ResourceSupport support = new ResourceSupport();
+
+		for (int i = 0; i < 20; i++) {
+			support.add(new Link("/foo/" + i, "rel" + i));
+		}
+
+		assertThat(support.getLink("rel10"), is(new Link("/foo/10", "rel10")));
+		assertThat(support.hasLink("rel20"), is(false));
+		assertThat(support.getId(), is(nullValue()));
+
+		support.add(new Link("/self"));
+		assertThat(support.getId(), is(new Link("/self")));
+
+		support.getLinks().set(0, new Link("/bar", "bar"));
+		assertThat(support.hasLink("rel0"), is(false));
+		assertThat(support.getLink("bar"), is(new Link("/bar", "bar")));
+
+		support.getLinks().remove(support.getId());
+		assertThat(support.getId(), is(nullValue()));
+
+		support.removeLinks();
+		assertThat(support.hasLink("rel10"), is(false));
+	}
+
+	@Test
+	public void returnsFirstLinkForRelOfResourceWithManyLinks() {
+
+		ResourceSupport support = new ResourceSupport();
+
+		for (int i = 0; i < 20; i++) {
+			support.add(new Link("/foo/" + i));
+		}
+
+		assertThat(support.getId(), is(new Link("/foo/0")));
+	}
 }
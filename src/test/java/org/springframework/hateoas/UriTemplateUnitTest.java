@@ -24,6 +24,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -207,6 +208,190 @@ public class UriTemplateUnitTest {
 		assertVariables(source.with(new TemplateVariables(toAdd)), expected);
 	}
 
+	@Test
+	public void expandsRequiredVariableGivenAsTemplateVariables() {
+
+		TemplateVariables variables = new TemplateVariables(new TemplateVariable("id", VariableType.SEGMENT),
+				new TemplateVariable("page", VariableType.REQUEST_PARAM));
+		UriTemplate template = new UriTemplate("/foo", variables);
+
+		assertThat(template.toString(), is("/foo{/id}{?page}"));
+		assertThat(template.getVariableNames(), contains("id", "page"));
+		assertThat(template.expandToString(4711, 2), is("/foo/4711?page=2"));
+	}
+
+	@Test
+	public void continuesQueryOfBaseUriWhenAddingRequestParameters() {
+
+		UriTemplate template = new UriTemplate("/foo?x=1").with(new TemplateVariables(new TemplateVariable("page",
+				VariableType.REQUEST_PARAM), new TemplateVariable("size", VariableType.REQUEST_PARAM)));
+
+		assertThat(template.toString(), is("/foo?x=1{&page,size}"));
+		assertThat(template.expandToString(2, 10), is("/foo?x=1&page=2&size=10"));
+		assertThat(template.expandToString(), is("/foo?x=1"));
+	}
+
+	@Test
+	public void ordersTemplateVariablesAsDeclaredInTheResultingTemplate() {
+
+		TemplateVariables variables = new TemplateVariables(new TemplateVariable("page", VariableType.REQUEST_PARAM),
+				new TemplateVariable("id", VariableType.PATH_VARIABLE, "The identifier"));
+		UriTemplate template = new UriTemplate("/foo/{id}", variables);
+
+		assertThat(template.toString(), is("/foo/{id}{?page}"));
+		assertThat(template.getVariableNames(), contains("id", "page"));
+		assertThat(template.getVariables().get(0).getDescription(), is("The identifier"));
+		assertThat(template.expandToString(4711, 2), is("/foo/4711?page=2"));
+	}
+
+	@Test
+	public void exposesVariablesOnlyDeclaredInTheBaseUri() {
+
+		UriTemplate template = new UriTemplate("/foo/{id}", new TemplateVariables(new TemplateVariable("page",
+				VariableType.REQUEST_PARAM)));
+
+		assertThat(template.getVariableNames(), contains("id", "page"));
+		assertThat(template.expandToString(4711, 2), is("/foo/4711?page=2"));
+	}
+
+	@Test
+	public void returnsCachedTemplateForSameString() {
+		assertThat(UriTemplate.of("/foo/{bar}{?page}"), is(sameInstance(UriTemplate.of("/foo/{bar}{?page}"))));
+	}
+
+	@Test
+	public void cachedTemplateEqualsParsedOne() {
+
+		UriTemplate template = UriTemplate.of("/foo/{bar}{?page,size}");
+
+		assertThat(template.toString(), is(new UriTemplate("/foo/{bar}{?page,size}").toString()));
+		assertVariables(template, new TemplateVariable("bar", VariableType.PATH_VARIABLE), new TemplateVariable("page",
+				VariableType.REQUEST_PARAM), new TemplateVariable("size", VariableType.REQUEST_PARAM));
+	}
+
+	@Test
+	public void ignoresMalformedExpressions() {
+
+		assertThat(UriTemplate.isTemplate("/foo{"), is(false));
+		assertThat(UriTemplate.isTemplate("/foo{}"), is(false));
+		assertThat(UriTemplate.isTemplate("/foo{?}"), is(false));
+		assertThat(UriTemplate.isTemplate("/foo{bar-baz}"), is(false));
+		assertThat(UriTemplate.isTemplate("/foo{{bar}"), is(true));
+
+		assertVariables(new UriTemplate("/foo{{bar}"), new TemplateVariable("bar", VariableType.PATH_VARIABLE));
+	}
+
+	@Test
+	public void expandsPathVariableInPlace() {
+
+		UriTemplate template = new UriTemplate("/people/{id}/addresses{?page}");
+
+		assertThat(template.expandToString(15), is("/people/15/addresses"));
+		assertThat(template.expand(15, 2).toString(), is("/people/15/addresses?page=2"));
+	}
+
+	@Test
+	public void encodesExpandedValues() {
+
+		UriTemplate template = new UriTemplate("/foo/{bar}{?baz}");
+
+		assertThat(template.expandToString("a/b", "c d&e=\u00e4"), is("/foo/a%2Fb?baz=c%20d%26e%3D%C3%A4"));
+	}
+
+	@Test
+	public void keepsReservedCharactersInFragment() {
+		assertThat(new UriTemplate("/foo{#bar}").expandToString("/baz?a=b"), is("/foo#/baz?a=b"));
+	}
+
+	@Test
+	public void expandsCollectionValues() {
+
+		UriTemplate template = new UriTemplate("/foo{/segments}{?ids}");
+
+		assertThat(template.expandToString(Arrays.asList("a", "b"), new int[] { 1, 2 }), is("/foo/a,b?ids=1,2"));
+	}
+
+	@Test
+	public void skipsEmptyCollectionValues() {
+		assertThat(new UriTemplate("/foo{?ids}").expandToString(Collections.emptyList()), is("/foo"));
+	}
+
+	@Test
+	public void expandsTemplateWithMapIntoString() {
+
+		Map<String, Integer> parameters = Collections.singletonMap("page", 2);
+
+		assertThat(new UriTemplate("/foo{?page,size}").expandToString(parameters), is("/foo?page=2"));
+	}
+
+	@Test
+	public void discoversLevelFourOperators() {
+
+		UriTemplate template = new UriTemplate("{+base}/foo{.format}{;matrix}");
+
+		assertVariables(template, new TemplateVariable("base", VariableType.RESERVED), new TemplateVariable("format",
+				VariableType.LABEL), new TemplateVariable("matrix", VariableType.PATH_PARAMETER));
+	}
+
+	@Test
+	public void discoversValueModifiers() {
+
+		UriTemplate template = new UriTemplate("/foo{/path*}{?query:3}");
+		List<TemplateVariable> variables = template.getVariables();
+
+		assertThat(variables, hasSize(2));
+		assertThat(variables.get(0).getName(), is("path"));
+		assertThat(variables.get(0).isExploded(), is(true));
+		assertThat(variables.get(1).getName(), is("query"));
+		assertThat(variables.get(1).getPrefixLength(), is(3));
+		assertThat(template.toString(), is("/foo{/path*}{?query:3}"));
+	}
+
+	@Test
+	public void expandsLevelFourOperators() {
+
+		Map<String, Object> parameters = new HashMap<String, Object>();
+		parameters.put("base", "http://localhost/api");
+		parameters.put("format", "json");
+		parameters.put("matrix", "");
+
+		UriTemplate template = new UriTemplate("{+base}/foo{.format}{;matrix}");
+
+		assertThat(template.expandToString(parameters), is("http://localhost/api/foo.json;matrix"));
+	}
+
+	@Test
+	public void expandsExplodedValues() {
+
+		Map<String, Object> filter = new LinkedHashMap<String, Object>();
+		filter.put("name", "Dave Matthews");
+		filter.put("city", "Charlottesville");
+
+		UriTemplate template = new UriTemplate("/foo{/path*}{?filter*}{&id*}");
+
+		assertThat(template.expandToString(Arrays.asList("bar", "baz"), filter, Arrays.asList(1, 2)),
+				is("/foo/bar/baz?name=Dave%20Matthews&city=Charlottesville&id=1&id=2"));
+	}
+
+	@Test
+	public void expandsPrefixedValues() {
+		assertThat(new UriTemplate("/search{?q:3}").expandToString("Matthews"), is("/search?q=Mat"));
+	}
+
+	@Test
+	public void treatsUnsupportedOperatorsAndModifiersAsLiterals() {
+
+		assertThat(UriTemplate.isTemplate("/foo{=bar}"), is(false));
+		assertThat(UriTemplate.isTemplate("/foo{bar:0}"), is(false));
+		assertThat(UriTemplate.isTemplate("/foo{bar:12345}"), is(false));
+		assertThat(UriTemplate.isTemplate("/foo{bar*:3}"), is(false));
+	}
+
+	@Test
+	public void retainsFullTemplateInToString() {
+		assertThat(new UriTemplate("/foo{?page}/{id}").toString(), is("/foo{?page}/{id}"));
+	}
+
 	private static void assertVariables(UriTemplate template, TemplateVariable... variables) {
 		assertVariables(template, Arrays.asList(variables));
 	}
@@ -24,7 +24,9 @@ import java.util.Map;
 import org.hamcrest.Matchers;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.Mockito;
 import org.mockito.runners.MockitoJUnitRunner;
+import org.springframework.beans.factory.BeanCreationException;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.AnnotationConfigApplicationContext;
 import org.springframework.context.annotation.Bean;
@@ -36,8 +38,11 @@ import org.springframework.hateoas.LinkDiscoverers;
 import org.springframework.hateoas.MediaTypes;
 import org.springframework.hateoas.RelProvider;
 import org.springframework.hateoas.config.EnableHypermediaSupport.HypermediaType;
+import org.springframework.hateoas.core.CachingRelProvider;
 import org.springframework.hateoas.core.DelegatingEntityLinks;
 import org.springframework.hateoas.core.DelegatingRelProvider;
+import org.springframework.hateoas.core.HypermediaMetrics;
+import org.springframework.hateoas.core.HypermediaMetricsHolder;
 import org.springframework.hateoas.hal.HalLinkDiscoverer;
 import org.springframework.http.converter.HttpMessageConverter;
 import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
@@ -77,6 +82,58 @@ public class EnableHypermediaSupportIntegrationTest {
 		assertHalSetupForConfigClass(ExtendedHalConfig.class);
 	}
 
+	@Test
+	public void registersHypermediaMetricsBeanForContextAndUnregistersItOnShutdown() {
+
+		AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext(MetricsConfig.class);
+		AnnotationConfigApplicationContext other = new AnnotationConfigApplicationContext(HalConfig.class);
+
+		try {
+
+			assertThat(HypermediaMetricsHolder.getMetrics(context), is(context.getBean(HypermediaMetrics.class)));
+			assertThat(HypermediaMetricsHolder.getMetrics(other), is(HypermediaMetrics.NONE));
+
+		} finally {
+			other.close();
+			context.close();
+		}
+
+		assertThat(HypermediaMetricsHolder.getMetrics(context), is(HypermediaMetrics.NONE));
+	}
+
+	@Test
+	public void exposesHypermediaMetricsOfParentContext() {
+
+		AnnotationConfigApplicationContext parent = new AnnotationConfigApplicationContext(MetricsConfig.class);
+		AnnotationConfigApplicationContext child = new AnnotationConfigApplicationContext();
+		child.setParent(parent);
+		child.refresh();
+
+		try {
+			assertThat(HypermediaMetricsHolder.getMetrics(child), is(parent.getBean(HypermediaMetrics.class)));
+		} finally {
+			child.close();
+			parent.close();
+		}
+	}
+
+	@Test(expected = BeanCreationException.class)
+	public void rejectsAmbiguousHypermediaMetricsBeans() {
+		new AnnotationConfigApplicationContext(AmbiguousMetricsConfig.class);
+	}
+
+	@Test
+	public void usesNoOpMetricsByDefault() {
+
+		AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext(HalConfig.class);
+
+		try {
+			assertThat(HypermediaMetricsHolder.getMetrics(context), is(HypermediaMetrics.NONE));
+		} finally {
+			context.close();
+		}
+	}
+
 	private static void assertEntityLinksSetUp(ApplicationContext context) {
 
 		Map<String, EntityLinks> discoverers = context.getBeansOfType(EntityLinks.class);
@@ -87,6 +144,7 @@ public class EnableHypermediaSupportIntegrationTest {
 
 		Map<String, RelProvider> discoverers = context.getBeansOfType(RelProvider.class);
 		assertThat(discoverers.values(), Matchers.<RelProvider> hasItem(instanceOf(DelegatingRelProvider.class)));
+		assertThat(context.getBean(RelProvider.class), is(instanceOf(CachingRelProvider.class)));
 	}
 
 	@SuppressWarnings({ "unchecked" })
@@ -138,4 +196,23 @@ public class EnableHypermediaSupportIntegrationTest {
 	static class DelegateConfig {
 
 	}
+
+	@Configuration
+	@EnableHypermediaSupport(type = HypermediaType.HAL)
+	static class MetricsConfig {
+
+		@Bean
+		public HypermediaMetrics hypermediaMetrics() {
+			return Mockito.mock(HypermediaMetrics.class);
+		}
+	}
+
+	@Configuration
+	static class AmbiguousMetricsConfig extends MetricsConfig {
+
+		@Bean
+		public HypermediaMetrics otherHypermediaMetrics() {
+			return Mockito.mock(HypermediaMetrics.class);
+		}
+	}
 }
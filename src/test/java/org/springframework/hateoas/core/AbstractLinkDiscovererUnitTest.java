@@ -20,15 +20,19 @@ import static org.junit.Assert.*;
 
 import java.io.ByteArrayInputStream;
 import java.io.InputStream;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import org.hamcrest.Matchers;
 import org.junit.Test;
 import org.springframework.hateoas.Link;
-import org.springframework.hateoas.LinkDiscoverer;
+import org.springframework.hateoas.MultiRelLinkDiscoverer;
+import org.springframework.hateoas.Links;
 
 /**
- * Base class for unit tests for {@link LinkDiscoverer} implementations.
+ * Base class for unit tests for {@link org.springframework.hateoas.LinkDiscoverer} implementations.
  * 
  * @author Oliver Gierke
  */
@@ -78,12 +82,52 @@ public abstract class AbstractLinkDiscovererUnitTest {
 		assertThat(getDiscoverer().findLinkWithRel("something", getInputStringWithoutLinkContainer()), is(nullValue()));
 	}
 
+	@Test
+	public void findsLinksForMultipleRelsInOnePass() {
+
+		Set<String> rels = new HashSet<String>(Arrays.asList("self", "relation", "something"));
+		Links links = getDiscoverer().findLinks(rels, getInputString());
+
+		assertThat(links.getLink("self"), is(new Link("selfHref")));
+		assertThat(links.getLinks("relation"), hasSize(2));
+		assertThat(links.getLinks("relation"),
+				hasItems(new Link("firstHref", "relation"), new Link("secondHref", "relation")));
+		assertThat(links.getLink("something"), is(nullValue()));
+	}
+
+	@Test
+	public void findsLinksForMultipleRelsFromInputStream() throws Exception {
+
+		Set<String> rels = new HashSet<String>(Arrays.asList("self", "relation"));
+		InputStream inputStream = new ByteArrayInputStream(getInputString().getBytes("UTF-8"));
+		Links links = getDiscoverer().findLinks(rels, inputStream);
+
+		assertThat(links.getLink("self"), is(new Link("selfHref")));
+		assertThat(links.getLinks("relation"), hasSize(2));
+	}
+
+	@Test
+	public void findsLinksOfAllRels() {
+
+		Links links = getDiscoverer().findLinks(null, getInputString());
+
+		assertThat(links.getLink("self"), is(new Link("selfHref")));
+		assertThat(links.getLinks("relation"), hasSize(2));
+	}
+
+	@Test
+	public void findsNoLinksForNonExistingLinkContainer() {
+
+		Set<String> rels = new HashSet<String>(Arrays.asList("self"));
+		assertThat(getDiscoverer().findLinks(rels, getInputStringWithoutLinkContainer()).isEmpty(), is(true));
+	}
+
 	/**
-	 * Return the {@link LinkDiscoverer} to be tested.
+	 * Return the {@link MultiRelLinkDiscoverer} to be tested.
 	 * 
 	 * @return
 	 */
-	protected abstract LinkDiscoverer getDiscoverer();
+	protected abstract MultiRelLinkDiscoverer getDiscoverer();
 
 	/**
 	 * Return the JSON structure we expect to find the links in.
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2014 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.core;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link AnnotationRelProvider}.
+ */
+public class AnnotationRelProviderUnitTest {
+
+	AnnotationRelProvider provider = new AnnotationRelProvider();
+
+	@Test
+	public void exposesRelsFromAnnotation() {
+
+		assertThat(provider.supports(Annotated.class), is(true));
+		assertThat(provider.getItemResourceRelFor(Annotated.class), is("foo"));
+		assertThat(provider.getCollectionResourceRelFor(Annotated.class), is("bar"));
+	}
+
+	@Test
+	public void doesNotSupportUnannotatedTypeOnRepeatedLookups() {
+
+		assertThat(provider.supports(Unannotated.class), is(false));
+		assertThat(provider.supports(Unannotated.class), is(false));
+		assertThat(provider.getItemResourceRelFor(Unannotated.class), is(nullValue()));
+		assertThat(provider.getCollectionResourceRelFor(Unannotated.class), is(nullValue()));
+	}
+
+	@Test
+	public void returnsNullForRelNotDeclared() {
+
+		assertThat(provider.getItemResourceRelFor(CollectionRelOnly.class), is(nullValue()));
+		assertThat(provider.getCollectionResourceRelFor(CollectionRelOnly.class), is("bar"));
+	}
+
+	@Test
+	public void servesRepeatedLookupsFromCache() {
+
+		CountingAnnotationRelProvider provider = new CountingAnnotationRelProvider();
+
+		assertThat(provider.supports(Annotated.class), is(true));
+		assertThat(provider.getItemResourceRelFor(Annotated.class), is("foo"));
+		assertThat(provider.getCollectionResourceRelFor(Annotated.class), is("bar"));
+		assertThat(provider.lookups, is(1));
+	}
+
+	@Test
+	public void servesRepeatedLookupsOfUnannotatedTypeFromCache() {
+
+		CountingAnnotationRelProvider provider = new CountingAnnotationRelProvider();
+
+		assertThat(provider.supports(Unannotated.class), is(false));
+		assertThat(provider.supports(Unannotated.class), is(false));
+		assertThat(provider.getItemResourceRelFor(Unannotated.class), is(nullValue()));
+		assertThat(provider.lookups, is(1));
+	}
+
+	static class CountingAnnotationRelProvider extends AnnotationRelProvider {
+
+		int lookups = 0;
+
+		@Override
+		Relation findAnnotation(Class<?> type) {
+
+			lookups++;
+			return super.findAnnotation(type);
+		}
+	}
+
+	@Relation(value = "foo", collectionRelation = "bar")
+	static class Annotated {
+
+	}
+
+	@Relation(collectionRelation = "bar")
+	static class CollectionRelOnly {
+
+	}
+
+	static class Unannotated {
+
+	}
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2014 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.core;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+import java.lang.reflect.Method;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.mockito.stubbing.Answer;
+
+/**
+ * Unit tests for {@link CachingMappingDiscoverer}.
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class CachingMappingDiscovererUnitTest {
+
+	@Mock MappingDiscoverer delegate;
+
+	CachingMappingDiscoverer discoverer;
+	Method method;
+
+	@Before
+	public void setUp() throws Exception {
+
+		this.discoverer = new CachingMappingDiscoverer(delegate);
+		this.method = Object.class.getMethod("toString");
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void rejectsNullDelegate() {
+		new CachingMappingDiscoverer(null);
+	}
+
+	@Test
+	public void cachesTypeMapping() {
+
+		when(delegate.getMapping(Object.class)).thenReturn("/type");
+
+		assertThat(discoverer.getMapping(Object.class), is("/type"));
+		assertThat(discoverer.getMapping(Object.class), is("/type"));
+
+		verify(delegate, times(1)).getMapping(Object.class);
+	}
+
+	@Test
+	public void cachesMethodMapping() {
+
+		when(delegate.getMapping(method)).thenReturn("/type/method");
+
+		assertThat(discoverer.getMapping(method), is("/type/method"));
+		assertThat(discoverer.getMapping(method), is("/type/method"));
+
+		verify(delegate, times(1)).getMapping(method);
+	}
+
+	@Test
+	public void cachesAbsentMapping() {
+
+		assertThat(discoverer.getMapping(Object.class), is(nullValue()));
+		assertThat(discoverer.getMapping(Object.class), is(nullValue()));
+
+		verify(delegate, times(1)).getMapping(Object.class);
+	}
+
+	@Test
+	public void resolvesMappingAgainAfterInvalidation() {
+
+		when(delegate.getMapping(Object.class)).thenReturn("/type");
+
+		discoverer.getMapping(Object.class);
+		discoverer.invalidate();
+		discoverer.getMapping(Object.class);
+
+		verify(delegate, times(2)).getMapping(Object.class);
+	}
+
+	@Test
+	public void resolvesMappingAgainAfterGlobalInvalidation() {
+
+		when(delegate.getMapping(Object.class)).thenReturn("/type");
+
+		discoverer.getMapping(Object.class);
+		CachingMappingDiscoverer.invalidateAll();
+		discoverer.getMapping(Object.class);
+
+		verify(delegate, times(2)).getMapping(Object.class);
+	}
+
+	@Test
+	public void doesNotCacheMappingResolvedConcurrentlyToInvalidation() {
+
+		when(delegate.getMapping(Object.class)).thenAnswer(new Answer<String>() {
+
+			@Override
+			public String answer(InvocationOnMock invocation) throws Throwable {
+
+				CachingMappingDiscoverer.invalidateAll();
+				return "/type";
+			}
+		});
+
+		discoverer.getMapping(Object.class);
+		discoverer.getMapping(Object.class);
+
+		verify(delegate, times(2)).getMapping(Object.class);
+	}
+}
@@ -15,7 +15,14 @@
  */
 package org.springframework.hateoas.core;
 
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+
+import java.util.Collections;
+
 import org.junit.Test;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.Links;
 
 /**
  * Unit tests for {@link JsonPathLinkDiscoverer}.
@@ -38,4 +45,25 @@ public class JsonPathLinkDiscovererUnitTest {
 	public void rejectsPatternWithMultiplePlaceholders() {
 		new JsonPathLinkDiscoverer("$links%s%s", null);
 	}
+
+	@Test
+	public void reusesExpressionForSameRelAcrossDocuments() {
+
+		JsonPathLinkDiscoverer discoverer = new JsonPathLinkDiscoverer("$.links..%s.href", null);
+
+		assertThat(discoverer.findLinkWithRel("self", "{ \"links\" : { \"self\" : { \"href\" : \"first\" } } }"),
+				is(new Link("first")));
+		assertThat(discoverer.findLinkWithRel("self", "{ \"links\" : { \"self\" : { \"href\" : \"second\" } } }"),
+				is(new Link("second")));
+	}
+
+	@Test
+	public void returnsNoLinksForAllRelsByDefault() {
+
+		JsonPathLinkDiscoverer discoverer = new JsonPathLinkDiscoverer("$.links..%s.href", null);
+		String representation = "{ \"links\" : { \"self\" : { \"href\" : \"first\" } } }";
+
+		assertThat(discoverer.findLinks(null, representation), is(new Links()));
+		assertThat(discoverer.findLinks(Collections.<String> emptySet(), representation), is(new Links()));
+	}
 }
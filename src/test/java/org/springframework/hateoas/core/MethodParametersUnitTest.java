@@ -24,6 +24,7 @@ import java.util.List;
 import org.junit.Test;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.core.MethodParameter;
+import org.springframework.core.convert.TypeDescriptor;
 
 /**
  * Unit tests for {@link MethodParameters}.
@@ -57,6 +58,69 @@ public class MethodParametersUnitTest {
 		assertThat(objectParameters.get(0).getParameterIndex(), is(2));
 	}
 
+	@Test
+	public void returnsCachedInstanceForMethod() throws Exception {
+
+		Method method = Sample.class.getMethod("method", String.class, String.class, Object.class);
+
+		assertThat(MethodParameters.of(method), is(sameInstance(MethodParameters.of(method))));
+	}
+
+	@Test
+	public void cachesParametersWithAnnotation() throws Exception {
+
+		Method method = Sample.class.getMethod("method", String.class, String.class, Object.class);
+		MethodParameters parameters = MethodParameters.of(method);
+
+		List<MethodParameter> result = parameters.getParametersWith(Qualifier.class);
+
+		assertThat(result, hasSize(1));
+		assertThat(result.get(0).getParameterIndex(), is(1));
+		assertThat(parameters.getParametersWith(Qualifier.class), is(sameInstance(result)));
+	}
+
+	@Test
+	public void exposesTypeDescriptorForParameter() throws Exception {
+
+		Method method = Sample.class.getMethod("method", String.class, String.class, Object.class);
+		MethodParameters parameters = MethodParameters.of(method);
+
+		MethodParameter parameter = parameters.getParameters().get(2);
+		assertThat(parameters.getTypeDescriptor(parameter), is(TypeDescriptor.valueOf(Object.class)));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void rejectsForeignParameterForTypeDescriptorLookup() throws Exception {
+
+		Method method = Sample.class.getMethod("method", String.class, String.class, Object.class);
+		Method other = Object.class.getMethod("equals", Object.class);
+
+		MethodParameters.of(method).getTypeDescriptor(new MethodParameter(other, 0));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void rejectsCopiedParameterForTypeDescriptorLookup() throws Exception {
+
+		Method method = Sample.class.getMethod("method", String.class, String.class, Object.class);
+		MethodParameters parameters = MethodParameters.of(method);
+
+		parameters.getTypeDescriptor(MethodParameters.copyOf(parameters.getParameters().get(0)));
+	}
+
+	@Test
+	public void copiesParameterKeepingAnnotationBasedName() throws Exception {
+
+		Method method = Sample.class.getMethod("method", String.class, String.class, Object.class);
+		MethodParameters parameters = new MethodParameters(method, new AnnotationAttribute(Qualifier.class));
+
+		MethodParameter parameter = parameters.getParameters().get(1);
+		MethodParameter copy = MethodParameters.copyOf(parameter);
+
+		assertThat(copy, is(not(sameInstance(parameter))));
+		assertThat(copy.getParameterIndex(), is(1));
+		assertThat(copy.getParameterName(), is("foo"));
+	}
+
 	static class Sample {
 
 		public void method(String param, @Qualifier("foo") String another, Object object) {}
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2014 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.core;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link StreamingCollection}.
+ */
+public class StreamingCollectionUnitTest {
+
+	@Test(expected = IllegalArgumentException.class)
+	public void rejectsNullIterator() {
+		new StreamingCollection<Object>(null);
+	}
+
+	@Test
+	public void checksForEmptinessWithoutConsumingElements() {
+
+		StreamingCollection<String> collection = new StreamingCollection<String>(Arrays.asList("foo", "bar").iterator());
+
+		assertThat(collection.isEmpty(), is(false));
+		assertThat(collection.isConsumed(), is(false));
+
+		Iterator<String> iterator = collection.iterator();
+
+		assertThat(iterator.next(), is("foo"));
+		assertThat(iterator.next(), is("bar"));
+		assertThat(iterator.hasNext(), is(false));
+		assertThat(collection.isConsumed(), is(true));
+	}
+
+	@Test
+	public void detectsEmptyIterator() {
+		assertThat(new StreamingCollection<Object>(Collections.emptyList().iterator()).isEmpty(), is(true));
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void rejectsSecondIteration() {
+
+		StreamingCollection<String> collection = new StreamingCollection<String>(Arrays.asList("foo").iterator());
+
+		collection.iterator();
+		collection.iterator();
+	}
+
+	@Test
+	public void buffersRemainingElementsToDetermineSize() {
+
+		StreamingCollection<String> collection = new StreamingCollection<String>(Arrays.asList("foo", "bar", "baz")
+				.iterator());
+		Iterator<String> iterator = collection.iterator();
+
+		assertThat(iterator.next(), is("foo"));
+		assertThat(collection.size(), is(3));
+		assertThat(iterator.next(), is("bar"));
+		assertThat(iterator.next(), is("baz"));
+		assertThat(iterator.hasNext(), is(false));
+		assertThat(collection.size(), is(3));
+		assertThat(collection.isEmpty(), is(false));
+	}
+
+	@Test
+	public void returnsSizeBeforeIteration() {
+
+		StreamingCollection<String> collection = new StreamingCollection<String>(Arrays.asList("foo", "bar").iterator());
+
+		assertThat(collection.size(), is(2));
+		assertThat(collection.isConsumed(), is(false));
+		assertThat(collection, contains("foo", "bar"));
+	}
+}
@@ -15,7 +15,7 @@
  */
 package org.springframework.hateoas.hal;
 
-import org.springframework.hateoas.LinkDiscoverer;
+import org.springframework.hateoas.MultiRelLinkDiscoverer;
 import org.springframework.hateoas.core.AbstractLinkDiscovererUnitTest;
 
 /**
@@ -25,14 +25,14 @@ import org.springframework.hateoas.core.AbstractLinkDiscovererUnitTest;
  */
 public class HalLinkDiscovererUnitTest extends AbstractLinkDiscovererUnitTest {
 
-	static final LinkDiscoverer discoverer = new HalLinkDiscoverer();
+	static final MultiRelLinkDiscoverer discoverer = new HalLinkDiscoverer();
 	static final String SAMPLE = "{ _links : { " + //
 			"self : { href : 'selfHref' }, " + //
 			"relation : [ " + //
 			"{ href : 'firstHref' }, { href : 'secondHref' }]}}";
 
 	@Override
-	protected LinkDiscoverer getDiscoverer() {
+	protected MultiRelLinkDiscoverer getDiscoverer() {
 		return discoverer;
 	}
 
@@ -17,16 +17,23 @@ package org.springframework.hateoas.hal;
 
 import static org.hamcrest.Matchers.*;
 import static org.junit.Assert.*;
+import static org.mockito.Matchers.*;
+import static org.mockito.Mockito.*;
 
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.junit.Before;
 import org.junit.Test;
 import org.springframework.hateoas.AbstractJackson2MarshallingIntegrationTest;
+import org.springframework.hateoas.ConstantLink;
 import org.springframework.hateoas.Link;
 import org.springframework.hateoas.Links;
 import org.springframework.hateoas.PagedResources;
@@ -36,8 +43,13 @@ import org.springframework.hateoas.ResourceSupport;
 import org.springframework.hateoas.Resources;
 import org.springframework.hateoas.UriTemplate;
 import org.springframework.hateoas.core.AnnotationRelProvider;
+import org.springframework.hateoas.core.HypermediaMetrics;
+import org.springframework.hateoas.core.HypermediaMetrics.Operation;
+import org.springframework.hateoas.core.HypermediaMetrics.Sample;
 import org.springframework.hateoas.hal.Jackson2HalModule.HalHandlerInstantiator;
 
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 /**
@@ -51,6 +63,8 @@ public class Jackson2HalIntegrationTest extends AbstractJackson2MarshallingInteg
 	static final String SINGLE_LINK_REFERENCE = "{\"_links\":{\"self\":{\"href\":\"localhost\"}}}";
 	static final String LIST_LINK_REFERENCE = "{\"_links\":{\"self\":[{\"href\":\"localhost\"},{\"href\":\"localhost2\"}]}}";
 
+	static final String INTERLEAVED_LINKS_REFERENCE = "{\"_links\":{\"self\":[{\"href\":\"localhost\"},{\"href\":\"localhost3\"}],\"next\":{\"href\":\"localhost2\"}}}";
+
 	static final String SIMPLE_EMBEDDED_RESOURCE_REFERENCE = "{\"_links\":{\"self\":{\"href\":\"localhost\"}},\"_embedded\":{\"content\":[\"first\",\"second\"]}}";
 	static final String SINGLE_EMBEDDED_RESOURCE_REFERENCE = "{\"_links\":{\"self\":{\"href\":\"localhost\"}},\"_embedded\":{\"content\":[{\"text\":\"test1\",\"number\":1,\"_links\":{\"self\":{\"href\":\"localhost\"}}}]}}";
 	static final String LIST_EMBEDDED_RESOURCE_REFERENCE = "{\"_links\":{\"self\":{\"href\":\"localhost\"}},\"_embedded\":{\"content\":[{\"text\":\"test1\",\"number\":1,\"_links\":{\"self\":{\"href\":\"localhost\"}}},{\"text\":\"test2\",\"number\":2,\"_links\":{\"self\":{\"href\":\"localhost\"}}}]}}";
@@ -108,6 +122,52 @@ public class Jackson2HalIntegrationTest extends AbstractJackson2MarshallingInteg
 		assertThat(write(resourceSupport), is(LIST_LINK_REFERENCE));
 	}
 
+	@Test
+	public void groupsLinksByRelInOrderOfFirstOccurrence() throws Exception {
+
+		ResourceSupport resourceSupport = new ResourceSupport();
+		resourceSupport.add(new Link("localhost"));
+		resourceSupport.add(new Link("localhost2", Link.REL_NEXT));
+		resourceSupport.add(new Link("localhost3"));
+
+		assertThat(write(resourceSupport), is(INTERLEAVED_LINKS_REFERENCE));
+	}
+
+	@Test
+	public void rendersConstantLinksLikeRegularOnes() throws Exception {
+
+		ResourceSupport resourceSupport = new ResourceSupport();
+		resourceSupport.add(ConstantLink.of("localhost", Link.REL_SELF));
+		resourceSupport.add(new Link("localhost2", Link.REL_NEXT));
+		resourceSupport.add(ConstantLink.of("localhost3", Link.REL_SELF));
+
+		assertThat(write(resourceSupport), is(INTERLEAVED_LINKS_REFERENCE));
+		assertThat(write(resourceSupport), is(INTERLEAVED_LINKS_REFERENCE));
+	}
+
+	@Test
+	public void rendersTemplatedConstantLink() throws Exception {
+
+		ResourceSupport support = new ResourceSupport();
+		support.add(ConstantLink.of("/foo{?bar}", "search"));
+
+		assertThat(write(support), is(LINK_TEMPLATE));
+	}
+
+	@Test
+	public void rendersConstantLinksUsingCustomLinkMixin() throws Exception {
+
+		ObjectMapper customMapper = new ObjectMapper();
+		customMapper.registerModule(new Jackson2HalModule());
+		customMapper.setHandlerInstantiator(new HalHandlerInstantiator(new AnnotationRelProvider(), null));
+		customMapper.addMixInAnnotations(Link.class, CustomLinkMixin.class);
+
+		ResourceSupport support = new ResourceSupport();
+		support.add(ConstantLink.of("localhost", Link.REL_SELF));
+
+		assertThat(customMapper.writeValueAsString(support), is("{\"_links\":{\"self\":{\"url\":\"localhost\"}}}"));
+	}
+
 	@Test
 	public void deserializeMultipleLinks() throws Exception {
 
@@ -279,6 +339,118 @@ public class Jackson2HalIntegrationTest extends AbstractJackson2MarshallingInteg
 		assertThat(result, is(setupAnnotatedPagedResources()));
 	}
 
+	@Test
+	public void rendersResourcesRepeatedlyUsingContextualSerializer() throws Exception {
+
+		Resources<Resource<SimplePojo>> resources = setupResources();
+		resources.add(new Link("localhost"));
+
+		assertThat(write(resources), is(LIST_EMBEDDED_RESOURCE_REFERENCE));
+		assertThat(write(resources), is(LIST_EMBEDDED_RESOURCE_REFERENCE));
+		assertThat(write(setupAnnotatedResources()), is(ANNOTATED_EMBEDDED_RESOURCES_REFERENCE));
+	}
+
+	@Test
+	public void rendersResourcesConcurrentlyWithSharedSerializers() throws Exception {
+
+		final ObjectMapper mapper = new ObjectMapper();
+		mapper.registerModule(new Jackson2HalModule());
+		mapper.setHandlerInstantiator(new HalHandlerInstantiator(new AnnotationRelProvider(), null, false));
+
+		final Resources<Resource<SimplePojo>> resources = setupResources();
+		resources.add(new Link("localhost"));
+
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		List<Future<String>> results = new ArrayList<Future<String>>();
+
+		try {
+
+			for (int i = 0; i < 100; i++) {
+				results.add(executor.submit(new Callable<String>() {
+
+					@Override
+					public String call() throws Exception {
+						return mapper.writeValueAsString(resources);
+					}
+				}));
+			}
+
+			for (Future<String> result : results) {
+				assertThat(result.get(), is(LIST_EMBEDDED_RESOURCE_REFERENCE));
+			}
+
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	public void rendersStreamingResourcesLikeRegularOnes() throws Exception {
+
+		Resources<Resource<SimplePojo>> resources = new Resources<Resource<SimplePojo>>(setupResources().getContent()
+				.iterator());
+		resources.add(new Link("localhost"));
+
+		assertThat(write(resources), is(LIST_EMBEDDED_RESOURCE_REFERENCE));
+	}
+
+	@Test
+	public void rendersStreamingPagedResourcesLikeRegularOnes() throws Exception {
+
+		Resources<Resource<SimpleAnnotatedPojo>> source = setupAnnotatedPagedResources();
+		PagedResources<Resource<SimpleAnnotatedPojo>> resources = new PagedResources<Resource<SimpleAnnotatedPojo>>(source
+				.getContent().iterator(), new PageMetadata(2, 0, 4), PAGINATION_LINKS);
+
+		assertThat(write(resources), is(ANNOTATED_PAGED_RESOURCES));
+	}
+
+	@Test
+	public void rendersStreamingResourcesNotGroupedByRelationLikeRegularOnes() throws Exception {
+
+		List<Object> content = new ArrayList<Object>();
+		content.add(new Resource<SimplePojo>(new SimplePojo("test1", 1)));
+		content.add(new Resource<SimpleAnnotatedPojo>(new SimpleAnnotatedPojo("test2", 2)));
+		content.add(new Resource<SimplePojo>(new SimplePojo("test3", 3)));
+		content.add(new Resource<SimpleAnnotatedPojo>(new SimpleAnnotatedPojo("test4", 4)));
+		content.add(new Resource<SimplePojo>(new SimplePojo("test5", 5)));
+
+		String streamed = write(new Resources<Object>(content.iterator()));
+
+		assertThat(mapper.readTree(streamed), is(mapper.readTree(write(new Resources<Object>(content)))));
+	}
+
+	@Test
+	public void recordsMetricsForRenderedLinksAndEmbeddedResources() throws Exception {
+
+		HypermediaMetrics metrics = mock(HypermediaMetrics.class);
+		Sample sample = mock(Sample.class);
+		when(metrics.start(any(Operation.class))).thenReturn(sample);
+
+		ObjectMapper metricsMapper = new ObjectMapper();
+		metricsMapper.registerModule(new Jackson2HalModule(metrics));
+		metricsMapper.setHandlerInstantiator(new HalHandlerInstantiator(new AnnotationRelProvider(), null));
+
+		String result = metricsMapper.writeValueAsString(setupAnnotatedResources());
+
+		assertThat(result, is(ANNOTATED_EMBEDDED_RESOURCES_REFERENCE));
+
+		verify(metrics, times(1)).start(Operation.RENDER);
+		verify(metrics).recordEmbedded("pojos", 2);
+		verify(metrics, times(1)).recordLinks(2);
+		verify(sample, times(1)).stop();
+	}
+
+	@Test
+	public void scopesMetricsToTheObjectMapperTheModuleIsRegisteredWith() throws Exception {
+
+		HypermediaMetrics metrics = mock(HypermediaMetrics.class);
+		new ObjectMapper().registerModule(new Jackson2HalModule(metrics));
+
+		assertThat(write(setupAnnotatedResources()), is(ANNOTATED_EMBEDDED_RESOURCES_REFERENCE));
+
+		verifyZeroInteractions(metrics);
+	}
+
 	/**
 	 * @see #125
 	 */
@@ -371,6 +543,13 @@ public class Jackson2HalIntegrationTest extends AbstractJackson2MarshallingInteg
 		return new Resources<Resource<SimplePojo>>(content);
 	}
 
+	@JsonIgnoreProperties({ "rel", "templated" })
+	static abstract class CustomLinkMixin {
+
+		@JsonProperty("url")
+		abstract String getHref();
+	}
+
 	private static ObjectMapper getCuriedObjectMapper() {
 
 		return getCuriedObjectMapper(new DefaultCurieProvider("foo", new UriTemplate("http://localhost:8080/rels/{rel}")));
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2014 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.hal;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+
+import java.util.List;
+
+import org.hamcrest.Matchers;
+import org.junit.Test;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.hateoas.MultiRelLinkDiscoverer;
+import org.springframework.hateoas.core.AbstractLinkDiscovererUnitTest;
+
+/**
+ * Unit tests for {@link Jackson2HalLinkDiscoverer}.
+ */
+public class Jackson2HalLinkDiscovererUnitTest extends AbstractLinkDiscovererUnitTest {
+
+	static final MultiRelLinkDiscoverer discoverer = new Jackson2HalLinkDiscoverer();
+	static final String EMBEDDED_SAMPLE = "{ \"content\" : { \"_links\" : { \"self\" : { \"href\" : \"ignored\" } } }, " + //
+			"\"_embedded\" : { \"items\" : [ { \"_links\" : { \"self\" : { \"href\" : \"embeddedHref\" } } } ] }, " + //
+			"\"_links\" : { \"self\" : { \"href\" : \"selfHref\", \"templated\" : false } } }";
+
+	@Override
+	protected MultiRelLinkDiscoverer getDiscoverer() {
+		return discoverer;
+	}
+
+	@Override
+	protected String getInputString() {
+		return HalLinkDiscovererUnitTest.SAMPLE;
+	}
+
+	@Override
+	protected String getInputStringWithoutLinkContainer() {
+		return "{}";
+	}
+
+	@Test
+	public void skipsEmbeddedResourcesByDefault() {
+
+		List<Link> links = discoverer.findLinksWithRel("self", EMBEDDED_SAMPLE);
+
+		assertThat(links, hasSize(1));
+		assertThat(links, hasItem(new Link("selfHref")));
+	}
+
+	@Test
+	public void includesEmbeddedResourcesIfConfigured() {
+
+		List<Link> links = new Jackson2HalLinkDiscoverer(true).findLinksWithRel("self", EMBEDDED_SAMPLE);
+
+		assertThat(links, hasSize(2));
+		assertThat(links, contains(new Link("embeddedHref"), new Link("selfHref")));
+	}
+
+	@Test
+	public void returnsEmptyListForNonObjectRepresentation() {
+		assertThat(discoverer.findLinksWithRel("self", "[]"), is(Matchers.<Link> empty()));
+	}
+
+	@Test
+	public void supportsHal() {
+		assertThat(discoverer.supports(MediaTypes.HAL_JSON), is(true));
+	}
+}
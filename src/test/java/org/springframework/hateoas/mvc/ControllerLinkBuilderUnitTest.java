@@ -36,6 +36,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.util.UriComponents;
 import org.springframework.web.util.UriComponentsBuilder;
+import org.springframework.web.util.WebUtils;
 
 /**
  * Unit tests for {@link ControllerLinkBuilder}.
@@ -269,6 +270,30 @@ public class ControllerLinkBuilderUnitTest extends TestUtils {
 		assertThat(link.getHref(), startsWith("http://barfoo:8888"));
 	}
 
+	@Test
+	public void calculatesBaseUriOncePerRequest() {
+
+		assertThat(linkTo(PersonControllerImpl.class).withSelfRel().getHref(), startsWith("http://localhost"));
+
+		request.addHeader("X-Forwarded-Ssl", "on");
+		assertThat(linkTo(PersonControllerImpl.class).withSelfRel().getHref(), startsWith("http://localhost"));
+
+		setUp();
+		request.addHeader("X-Forwarded-Ssl", "on");
+		assertThat(linkTo(PersonControllerImpl.class).withSelfRel().getHref(), startsWith("https://localhost"));
+	}
+
+	@Test
+	public void doesNotUseCachedBaseUriForForwardedRequest() {
+
+		assertThat(linkTo(PersonControllerImpl.class).withSelfRel().getHref(), endsWith("/people"));
+
+		request.setServletPath("/forwarded");
+		request.setAttribute(WebUtils.FORWARD_REQUEST_URI_ATTRIBUTE, "/original");
+
+		assertThat(linkTo(PersonControllerImpl.class).withSelfRel().getHref(), endsWith("/forwarded/people"));
+	}
+
 	/**
 	 * @see #122
 	 */
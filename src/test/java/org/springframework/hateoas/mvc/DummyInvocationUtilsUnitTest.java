@@ -1,5 +1,5 @@
 /*
- * Copyright 2012 the original author or authors.
+ * Copyright 2012-2014 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -15,9 +15,13 @@
  */
 package org.springframework.hateoas.mvc;
 
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+
 import org.junit.Test;
 import org.springframework.hateoas.TestUtils;
 import org.springframework.hateoas.core.DummyInvocationUtils;
+import org.springframework.hateoas.core.DummyInvocationUtils.LastInvocationAware;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -36,6 +40,37 @@ public class DummyInvocationUtilsUnitTest extends TestUtils {
 
 	}
 
+	@Test
+	public void reusesProxyClassButRecordsInvocationsSeparately() {
+
+		SampleController first = DummyInvocationUtils.methodOn(SampleController.class);
+		SampleController second = DummyInvocationUtils.methodOn(SampleController.class);
+
+		assertThat(first.getClass() == second.getClass(), is(true));
+
+		Object firstResult = first.someMethod(1L);
+		Object secondResult = second.someMethod(2L);
+
+		assertThat(((LastInvocationAware) firstResult).getLastInvocation().getArguments()[0], is((Object) 1L));
+		assertThat(((LastInvocationAware) secondResult).getLastInvocation().getArguments()[0], is((Object) 2L));
+	}
+
+	@Test
+	public void proxiesInterfaces() {
+
+		Object result = DummyInvocationUtils.methodOn(SampleInterface.class).someMethod(1L);
+
+		assertThat(result, is(instanceOf(LastInvocationAware.class)));
+		assertThat(((LastInvocationAware) result).getLastInvocation().getMethod().getName(), is("someMethod"));
+	}
+
+	@RequestMapping("/sample")
+	interface SampleInterface {
+
+		@RequestMapping("/{id}/foo")
+		HttpEntity<Void> someMethod(@PathVariable("id") Long id);
+	}
+
 	@RequestMapping("/sample")
 	static class SampleController {
 
@@ -15,12 +15,18 @@
  */
 package org.springframework.hateoas.mvc;
 
-import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.Matchers.*;
 import static org.junit.Assert.*;
 import static org.springframework.hateoas.mvc.ControllerLinkBuilder.*;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -99,6 +105,197 @@ public class IdentifiableResourceAssemblerSupportUnitTest extends TestUtils {
 		assertThat(result, hasItems(firstResource, secondResource));
 	}
 
+	@Test
+	public void createsSameSelfLinksInBatchAsForSingleResources() {
+
+		Person first = new Person();
+		first.id = 1L;
+		Person second = new Person();
+		second.id = 2L;
+
+		List<PersonResource> result = assembler.toResources(Arrays.asList(first, second));
+
+		assertThat(result.size(), is(2));
+		assertThat(result.get(0).getId(), is(assembler.createResource(first).getId()));
+		assertThat(result.get(1).getId(), is(assembler.createResource(second).getId()));
+		assertThat(result.get(1).getId().getHref(), endsWith("/people/2"));
+	}
+
+	@Test
+	public void usesParametersForSelfLinksInBatch() {
+
+		Person first = new Person();
+		first.id = 1L;
+
+		PersonResourceAssembler parameterizedAssembler = new PersonResourceAssembler(ParameterizedController.class) {
+
+			@Override
+			public PersonResource toResource(Person entity) {
+				return createResource(entity, entity, "bar");
+			}
+		};
+
+		List<PersonResource> result = parameterizedAssembler.toResources(Arrays.asList(first));
+
+		assertThat(result.get(0).getId().getHref(), endsWith("/people/1/bar/addresses/1"));
+	}
+
+	@Test
+	public void fallsBackToRegularLinkCreationForIdsToBeEncoded() {
+
+		PersonResourceAssembler alternateIdAssembler = new PersonResourceAssembler() {
+
+			@Override
+			public PersonResource toResource(Person entity) {
+				return createResourceWithId(entity.alternateId, entity);
+			}
+		};
+
+		person.alternateId = "some id";
+
+		List<PersonResource> result = alternateIdAssembler.toResources(Arrays.asList(person));
+
+		assertThat(result.get(0).getId(), is(linkTo(PersonController.class).slash("some id").withSelfRel()));
+	}
+
+	@Test
+	public void unwrapsIdentifiableIdsInBatch() {
+
+		PersonResourceAssembler identifiableIdAssembler = new PersonResourceAssembler() {
+
+			@Override
+			public PersonResource toResource(Person entity) {
+				return createResourceWithId(new PersonId(entity.id), entity);
+			}
+		};
+
+		Person first = new Person();
+		first.id = 1L;
+
+		List<PersonResource> result = identifiableIdAssembler.toResources(Arrays.asList(first));
+
+		assertThat(result.get(0).getId(), is(linkTo(PersonController.class).slash(1L).withSelfRel()));
+	}
+
+	@Test
+	public void convertsEntitiesToResourcesInParallelKeepingOrder() {
+
+		List<Person> people = createPeople(100);
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+
+		try {
+
+			List<PersonResource> result = assembler.toResources(people, executor);
+
+			assertThat(result.size(), is(100));
+
+			for (int i = 0; i < 100; i++) {
+				assertThat(result.get(i).getId(), is(linkTo(PersonController.class).slash(i).withSelfRel()));
+			}
+
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void propagatesExceptionFromParallelConversion() {
+
+		PersonResourceAssembler failingAssembler = new PersonResourceAssembler() {
+
+			@Override
+			public PersonResource toResource(Person entity) {
+				throw new UnsupportedOperationException();
+			}
+		};
+
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+
+		try {
+			failingAssembler.toResources(Arrays.asList(person), executor);
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	public void cancelsPendingChunksIfConversionFails() {
+
+		PersonResourceAssembler failingAssembler = new PersonResourceAssembler() {
+
+			@Override
+			public PersonResource toResource(Person entity) {
+				throw new UnsupportedOperationException();
+			}
+		};
+
+		final List<Runnable> pending = new ArrayList<Runnable>();
+
+		Executor executor = new Executor() {
+
+			@Override
+			public void execute(Runnable command) {
+
+				if (pending.isEmpty()) {
+					command.run();
+				}
+
+				pending.add(command);
+			}
+		};
+
+		try {
+			failingAssembler.toResources(createPeople(100), executor);
+			fail("Expected UnsupportedOperationException!");
+		} catch (UnsupportedOperationException o_O) {}
+
+		assertThat(pending.size(), is(greaterThan(1)));
+
+		for (Runnable task : pending.subList(1, pending.size())) {
+			assertThat(((Future<?>) task).isCancelled(), is(true));
+		}
+	}
+
+	@Test
+	public void cancelsSubmittedChunksIfExecutorRejectsOne() {
+
+		final List<Runnable> pending = new ArrayList<Runnable>();
+
+		Executor executor = new Executor() {
+
+			@Override
+			public void execute(Runnable command) {
+
+				if (!pending.isEmpty()) {
+					throw new RejectedExecutionException();
+				}
+
+				pending.add(command);
+			}
+		};
+
+		try {
+			assembler.toResources(createPeople(100), executor);
+			fail("Expected RejectedExecutionException!");
+		} catch (RejectedExecutionException o_O) {}
+
+		assertThat(pending.size(), is(1));
+		assertThat(((Future<?>) pending.get(0)).isCancelled(), is(true));
+	}
+
+	private static List<Person> createPeople(int count) {
+
+		List<Person> people = new ArrayList<Person>(count);
+
+		for (long i = 0; i < count; i++) {
+			Person person = new Person();
+			person.id = i;
+			people.add(person);
+		}
+
+		return people;
+	}
+
 	@RequestMapping("/people")
 	static class PersonController {
 
@@ -120,6 +317,25 @@ public class IdentifiableResourceAssemblerSupportUnitTest extends TestUtils {
 		}
 	}
 
+	static class PersonId implements Identifiable<Long> {
+
+		final Long id;
+
+		PersonId(Long id) {
+			this.id = id;
+		}
+
+		@Override
+		public Long getId() {
+			return id;
+		}
+
+		@Override
+		public String toString() {
+			return "personId";
+		}
+	}
+
 	static class PersonResource extends ResourceSupport {
 
 	}
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2014 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.mvc;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+import static org.springframework.hateoas.core.DummyInvocationUtils.*;
+
+import org.junit.Test;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.TestUtils;
+import org.springframework.hateoas.mvc.ControllerLinkBuilderUnitTest.ControllerWithMethods;
+import org.springframework.hateoas.mvc.ControllerLinkBuilderUnitTest.PersonsAddressesController;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.util.UriComponents;
+import org.springframework.web.util.UriComponentsBuilder;
+
+/**
+ * Unit tests for {@link MethodLinkRecipe}.
+ */
+public class MethodLinkRecipeUnitTest extends TestUtils {
+
+	MethodLinkRecipe recipe = MethodLinkRecipe.forMethod(ControllerWithMethods.class, "methodForNextPage", String.class,
+			Integer.class, Integer.class);
+
+	@Test
+	public void createsLinkFromMethodArguments() {
+
+		Link link = recipe.linkTo("1", 10, 5).withSelfRel();
+
+		assertPointsToMockServer(link);
+
+		UriComponents components = UriComponentsBuilder.fromUriString(link.getHref()).build();
+		assertThat(components.getPath(), is("/something/1/foo"));
+
+		MultiValueMap<String, String> queryParams = components.getQueryParams();
+		assertThat(queryParams.get("limit"), contains("5"));
+		assertThat(queryParams.get("offset"), contains("10"));
+	}
+
+	@Test
+	public void createsSameLinkAsDummyInvocation() {
+
+		Link expected = ControllerLinkBuilder.linkTo(methodOn(ControllerWithMethods.class).methodForNextPage("1", 10, 5))
+				.withSelfRel();
+
+		assertThat(recipe.linkTo("1", 10, 5).withSelfRel(), is(expected));
+	}
+
+	@Test
+	public void isReusable() {
+
+		assertThat(recipe.linkTo("1", 10, 5).withSelfRel().getHref(), containsString("/something/1/foo"));
+		assertThat(recipe.linkTo("2", 10, 5).withSelfRel().getHref(), containsString("/something/2/foo"));
+	}
+
+	@Test
+	public void factoryReturnsCachedRecipe() {
+
+		MethodLinkRecipeFactory factory = new ControllerLinkBuilderFactory();
+
+		assertThat(factory.getRecipe(recipe.getMethod()), is(sameInstance(factory.getRecipe(recipe.getMethod()))));
+	}
+
+	@Test
+	public void expandsTemplatedClassMappingWithClassMappingParameters() {
+
+		MethodLinkRecipe recipe = MethodLinkRecipe.forMethod(PersonsAddressesController.class, "getAddressesForCountry",
+				String.class);
+
+		Link expected = ControllerLinkBuilder.linkTo(
+				methodOn(PersonsAddressesController.class, 15).getAddressesForCountry("DE")).withSelfRel();
+		Link link = recipe.withClassMappingParameters(15).linkTo("DE").withSelfRel();
+
+		assertThat(link.getHref(), endsWith("/people/15/addresses/DE"));
+		assertThat(link, is(expected));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void rejectsMissingClassMappingParameters() {
+
+		MethodLinkRecipe.forMethod(PersonsAddressesController.class, "getAddressesForCountry", String.class)
+				.linkTo("DE");
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void rejectsNullValueForPathVariable() {
+		recipe.linkTo(null, 10, 5);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void rejectsInvalidNumberOfArguments() {
+		recipe.linkTo("1");
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void rejectsUnknownMethod() {
+		MethodLinkRecipe.forMethod(ControllerWithMethods.class, "unknown");
+	}
+}